@@ -0,0 +1,188 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
+import io.jenkins.plugins.casc.util.ExtraFieldUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Default getter and setter used by {@link Attribute}s, following JavaBean conventions.
+ * <p>
+ * Accessors are resolved once per (class, attribute name) into {@link MethodHandle}s, so reading or writing an
+ * attribute doesn't require to introspect target class again. Failures are reported as {@link Method#invoke} would.
+ *
+ * @see ExtensionsChangeListener
+ */
+final class Accessors {
+
+    private static final Logger LOGGER = Logger.getLogger(Accessors.class.getName());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CONVERSION = MethodType.methodType(Object.class, Object.class);
+
+    private static volatile ClassValue<Map<String, Optional<MethodHandle>>> getters = newCache();
+
+    private static volatile ClassValue<Map<String, Optional<BoundSetter>>> setters = newCache();
+
+    static {
+        ExtensionsChangeListener.addCallback(Accessors::invalidate);
+    }
+
+    private Accessors() {
+    }
+
+    /**
+     * @return a getter with type {@code (Object)Object} for attribute {@code name} of class {@code clazz}, or
+     *         {@code null} if there's neither a getter method nor a field we can read this attribute from.
+     */
+    @CheckForNull
+    static MethodHandle getter(@NonNull Class<?> clazz, @NonNull String name) {
+        return getters.get(clazz).computeIfAbsent(name, n -> Optional.ofNullable(resolveGetter(clazz, n))).orElse(null);
+    }
+
+    /**
+     * @return the most specialized setter for attribute {@code name} of class {@code clazz}, or {@code null} if
+     *         there's none.
+     */
+    @CheckForNull
+    static BoundSetter setter(@NonNull Class<?> clazz, @NonNull String name) {
+        return setters.get(clazz).computeIfAbsent(name, n -> Optional.ofNullable(resolveSetter(clazz, n))).orElse(null);
+    }
+
+    static void invalidate() {
+        getters = newCache();
+        setters = newCache();
+    }
+
+    private static <V> ClassValue<Map<String, V>> newCache() {
+        return new ClassValue<Map<String, V>>() {
+            @Override
+            protected Map<String, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    @CheckForNull
+    private static MethodHandle resolveGetter(Class<?> clazz, String name) {
+        final Method method = Attribute.locateGetter(clazz, name);
+        try {
+            if (method != null) {
+                return adapt(LOOKUP.unreflect(method), Modifier.isStatic(method.getModifiers()), GETTER);
+            }
+
+            // If this is a public final field, developers don't define getters as jelly can use them as-is
+            final Field field = ExtraFieldUtils.getField(clazz, name, true);
+            if (field != null) {
+                return adapt(LOOKUP.unreflectGetter(field), Modifier.isStatic(field.getModifiers()), GETTER);
+            }
+        } catch (IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "Can't access attribute '" + name + "' of " + clazz, e);
+        }
+        return null;
+    }
+
+    @CheckForNull
+    private static BoundSetter resolveSetter(Class<?> clazz, String name) {
+        final String setterName = "set" + StringUtils.capitalize(name);
+        Method writeMethod = null;
+        for (Method method : clazz.getMethods()) {
+            // Find most specialized variant of setter because the method
+            // can to have been overridden with concretized type
+            if (method.getName().equals(setterName) && method.getParameterCount() == 1 && (
+                writeMethod == null
+                    || writeMethod.getParameterTypes()[0]
+                    .isAssignableFrom(method.getParameterTypes()[0]))) {
+                writeMethod = method;
+            }
+        }
+
+        if (writeMethod == null) {
+            return null;
+        }
+
+        try {
+            final Class<?> parameterType = writeMethod.getParameterTypes()[0];
+            final MethodHandle handle = adapt(LOOKUP.unreflect(writeMethod), Modifier.isStatic(writeMethod.getModifiers()), SETTER);
+            final MethodHandle conversion = MethodHandles.identity(parameterType).asType(CONVERSION);
+            return new BoundSetter(parameterType, handle, conversion);
+        } catch (IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "Can't access " + writeMethod, e);
+            return null;
+        }
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, boolean isStatic, MethodType type) {
+        if (isStatic) {
+            // target instance is ignored, as it would be by Method.invoke
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    /**
+     * A setter method bound as a {@link MethodHandle} with type {@code (Object,Object)void}.
+     */
+    static final class BoundSetter {
+
+        /**
+         * Type of the setter parameter, which might be a concretized type when setter has been overridden.
+         */
+        final Class<?> parameterType;
+
+        private final MethodHandle handle;
+
+        /**
+         * Converts a value to {@link #parameterType} as {@link #handle} does, so conversion failures can be told
+         * apart from failures of the setter itself.
+         */
+        private final MethodHandle conversion;
+
+        private BoundSetter(Class<?> parameterType, MethodHandle handle, MethodHandle conversion) {
+            this.parameterType = parameterType;
+            this.handle = handle;
+            this.conversion = conversion;
+        }
+
+        void invoke(Object target, Object value) throws Exception {
+            final Object argument;
+            try {
+                argument = (Object) conversion.invokeExact(value);
+            } catch (ClassCastException | NullPointerException e) {
+                // same as Method.invoke would do, the setter isn't invoked
+                throw new IllegalArgumentException("argument type mismatch", e);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+
+            try {
+                handle.invokeExact(target, argument);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // same as Method.invoke would do
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
+}
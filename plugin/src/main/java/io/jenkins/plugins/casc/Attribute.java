@@ -1,13 +1,14 @@
 package io.jenkins.plugins.casc;
 
 import hudson.util.Secret;
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.jenkins.plugins.casc.model.Sequence;
 import io.jenkins.plugins.casc.util.ExtraFieldUtils;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -15,9 +16,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -50,9 +53,14 @@ public class Attribute<Owner, Type> {
         // Nop
     };
 
-    //TODO: Concurrent cache?
-    //private static final HashMap<Class, Boolean> SECRET_ATTRIBUTE_CACHE =
-    //        new HashMap<>();
+    /**
+     * Decisions made by {@link #calculateIfSecret(Class, String)}, by target class and attribute name.
+     */
+    private static volatile ClassValue<Map<String, Boolean>> secretAttributes = newSecretAttributesCache();
+
+    static {
+        ExtensionsChangeListener.addCallback(() -> secretAttributes = newSecretAttributesCache());
+    }
 
     protected final String name;
     protected final Class type;
@@ -96,6 +104,16 @@ public class Attribute<Owner, Type> {
                 .findFirst();
     }
 
+    /**
+     * @return attribute matching {@code name} or one of its aliases, ignoring case as when configuration is applied
+     */
+    @Restricted(NoExternalUse.class)
+    public static <O> Optional<Attribute<O,?>> lookup(Set<Attribute<O,?>> attributes, String name) {
+        return attributes.stream()
+                .filter(a -> a.getName().equalsIgnoreCase(name) || a.aliases.stream().anyMatch(name::equalsIgnoreCase))
+                .findFirst();
+    }
+
     @Override
     public String toString() {
         return String.format("%s(class: %s, multiple: %s)", name, type, multiple);
@@ -227,11 +245,20 @@ public class Attribute<Owner, Type> {
     }
 
     public void setValue(Owner target, Type value) throws Exception {
-        LOGGER.log(Level.FINE, "Setting {0}.{1} = {2}",
-                new Object[] {target, name, (isSecret(target) ? "****" : value)});
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Setting {0}.{1} = {2}",
+                    new Object[] {target, name, (isSecret(target) ? "****" : value)});
+        }
         setter.setValue(target, value);
     }
 
+    /**
+     * Set value while applying configuration, so the context of the configuration being applied can be used.
+     */
+    public void setValue(Owner target, Type value, ConfigurationContext context) throws Exception {
+        setValue(target, value);
+    }
+
     public Type getValue(Owner target) throws Exception {
         return getter.getValue(target);
     }
@@ -364,7 +391,7 @@ public class Attribute<Owner, Type> {
     }
 
     @CheckForNull
-    private static Method locateGetter(Class<?> clazz, @Nonnull String fieldName) {
+    static Method locateGetter(Class<?> clazz, @Nonnull String fieldName) {
         final String upname = StringUtils.capitalize(fieldName);
         final List<String> accessors = Arrays.asList("get" + upname, "is" + upname);
 
@@ -415,8 +442,10 @@ public class Attribute<Owner, Type> {
             return false; // All methods below require a known target class
         }
 
-        //TODO: Cache decisions?
+        return secretAttributes.get(targetClass).computeIfAbsent(fieldName, f -> isSecretAttribute(targetClass, f));
+    }
 
+    private static boolean isSecretAttribute(@Nonnull Class<?> targetClass, @Nonnull String fieldName) {
         Method m = locateGetter(targetClass, fieldName);
         if (m != null && m.getReturnType() == Secret.class) {
             LOGGER.log(Level.FINER, "Attribute {0}#{1} is secret, because there is a getter {2} which returns a Secret type",
@@ -444,23 +473,28 @@ public class Attribute<Owner, Type> {
         return false;
     }
 
-    private Type _getValue(Owner target) throws ConfiguratorException {
-        final Class<?> clazz = target.getClass();
-
-        try {
-            final Method method = locateGetter(clazz, this.name);
-            if (method != null) {
-                return (Type) method.invoke(target);
-            }
-
-            // If this is a public final field, developers don't define getters as jelly can use them as-is
-            final Field field = ExtraFieldUtils.getField(clazz, this.name, true);
-            if (field != null) {
-                return (Type) field.get(target);
+    private static ClassValue<Map<String, Boolean>> newSecretAttributesCache() {
+        return new ClassValue<Map<String, Boolean>>() {
+            @Override
+            protected Map<String, Boolean> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
             }
+        };
+    }
 
+    private Type _getValue(Owner target) throws ConfiguratorException {
+        // accessor is resolved once per target class, see Accessors
+        final MethodHandle getter = Accessors.getter(target.getClass(), this.name);
+        if (getter == null) {
             throw new ConfiguratorException("Can't read attribute '" + name + "' from "+ target);
-        } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
+        }
+
+        try {
+            final Object value = getter.invokeExact((Object) target);
+            return (Type) value;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ConfiguratorException("Can't read attribute '" + name + "' from "+ target, e);
         }
     }
@@ -470,34 +504,23 @@ public class Attribute<Owner, Type> {
      *
      */
     private void _setValue(Owner target, Type value) throws Exception {
-        final String setterId = target.getClass().getCanonicalName()+'#'+name;
-
-        Method writeMethod = null;
-        for (Method method : target.getClass().getMethods()) {
-            // Find most specialized variant of setter because the method
-            // can to have been overridden with concretized type
-            if (method.getName().equals("set" + StringUtils.capitalize(name)) && (
-                writeMethod == null
-                    || writeMethod.getParameterTypes()[0]
-                    .isAssignableFrom(method.getParameterTypes()[0]))) {
-                writeMethod = method;
-            }
-        }
+        // accessor is resolved once per target class, see Accessors
+        final Accessors.BoundSetter writeMethod = Accessors.setter(target.getClass(), name);
 
         if (writeMethod == null) {
             throw new IllegalStateException(
-                "Default value setter cannot find Property Descriptor for " + setterId);
+                "Default value setter cannot find Property Descriptor for " + getSetterId(target));
         }
 
         Object o = value;
         if (multiple) {
             if (!(value instanceof Collection)) {
-                throw new IllegalArgumentException(setterId + " should be a list.");
+                throw new IllegalArgumentException(getSetterId(target) + " should be a list.");
             }
             // if setter expect an Array, convert Collection to expected array type
             // Typically required for hudson.tools.ToolDescriptor.setInstallations
             // as java varargs unfortunately only supports Arrays, not all Iterable (sic)
-            final Class c = writeMethod.getParameterTypes()[0];
+            final Class c = writeMethod.parameterType;
             if (c.isArray()) {
                 Collection collection = (Collection) value;
                 o = collection.toArray((Object[]) Array.newInstance(type, collection.size()));
@@ -512,6 +535,10 @@ public class Attribute<Owner, Type> {
         writeMethod.invoke(target, o);
     }
 
+    private String getSetterId(Owner target) {
+        return target.getClass().getCanonicalName()+'#'+name;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
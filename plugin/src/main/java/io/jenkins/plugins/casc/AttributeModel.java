@@ -0,0 +1,127 @@
+package io.jenkins.plugins.casc;
+
+import hudson.util.PersistedList;
+import io.jenkins.plugins.casc.BaseConfigurator.TypePair;
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.lang.StringUtils;
+import org.kohsuke.accmod.AccessRestriction;
+import org.kohsuke.accmod.Restricted;
+
+/**
+ * JavaBean introspection of a target class, as used by {@link BaseConfigurator#describe()} to detect attributes.
+ * <p>
+ * Introspection only depends on the target class, so the result is computed once and cached per class, hence per
+ * classloader.
+ *
+ * @see ExtensionsChangeListener
+ */
+final class AttributeModel {
+
+    private static volatile ClassValue<AttributeModel> cache = newCache();
+
+    static {
+        ExtensionsChangeListener.addCallback(AttributeModel::invalidate);
+    }
+
+    /**
+     * Public {@link PersistedList} fields, to be accessed directly.
+     */
+    final List<Property> fields = new ArrayList<>();
+
+    /**
+     * Public {@link PersistedList} fields marked as transient, which must not be considered as attributes.
+     */
+    final Set<String> transientFields = new HashSet<>();
+
+    /**
+     * Accessors (setters, or {@link PersistedList} getters) with a matching getter, in {@link Class#getMethods()} order.
+     */
+    final List<Property> methods = new ArrayList<>();
+
+    private AttributeModel(Class<?> target) {
+        for (Field field : target.getFields()) {
+            if (!PersistedList.class.isAssignableFrom(field.getType())) continue;
+            if (Modifier.isTransient(field.getModifiers())) {
+                transientFields.add(field.getName());
+            } else {
+                fields.add(new Property(field.getName(), TypePair.of(field), field, null));
+            }
+        }
+
+        final Method[] all = target.getMethods();
+        final Set<String> getters = new HashSet<>();
+        for (Method method : all) {
+            if (method.getParameterCount() == 0) getters.add(method.getName());
+        }
+
+        for (Method method : all) {
+            final String methodName = method.getName();
+            TypePair type;
+            if (method.getParameterCount() == 0 && methodName.startsWith("get")
+                    && PersistedList.class.isAssignableFrom(method.getReturnType())) {
+                type = TypePair.ofReturnType(method);
+            } else if (method.getParameterCount() != 1 || !methodName.startsWith("set")) {
+                // Not an accessor, ignore
+                continue;
+            } else {
+                type = TypePair.ofParameter(method, 0);
+            }
+
+            final String s = methodName.substring(3);
+            if (!getters.contains("get" + s) && !getters.contains("is" + s)) {
+                // Looks like a property but no actual getter method we can use to read value
+                continue;
+            }
+            methods.add(new Property(StringUtils.uncapitalize(s), type, null, method));
+        }
+    }
+
+    static AttributeModel of(Class<?> target) {
+        return cache.get(target);
+    }
+
+    static void invalidate() {
+        cache = newCache();
+    }
+
+    private static ClassValue<AttributeModel> newCache() {
+        return new ClassValue<AttributeModel>() {
+            @Override
+            protected AttributeModel computeValue(Class<?> type) {
+                return new AttributeModel(type);
+            }
+        };
+    }
+
+    static final class Property {
+
+        final String name;
+
+        final TypePair type;
+
+        final Field field;
+
+        final Method method;
+
+        final boolean deprecated;
+
+        final Class<? extends AccessRestriction>[] restrictions;
+
+        private Property(String name, TypePair type, Field field, Method method) {
+            this.name = name;
+            this.type = type;
+            this.field = field;
+            this.method = method;
+            this.deprecated = method != null && method.getAnnotation(Deprecated.class) != null;
+            final Restricted r = method != null ? method.getAnnotation(Restricted.class) : null;
+            this.restrictions = r != null ? r.value() : null;
+        }
+    }
+}
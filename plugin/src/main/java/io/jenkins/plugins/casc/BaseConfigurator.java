@@ -1,11 +1,14 @@
 package io.jenkins.plugins.casc;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.BulkChange;
 import hudson.model.Describable;
 import hudson.model.Saveable;
 import hudson.util.DescribableList;
 import hudson.util.PersistedList;
+import hudson.util.Secret;
+import io.jenkins.plugins.casc.impl.ExportedConfiguration;
 import io.jenkins.plugins.casc.impl.attributes.DescribableAttribute;
 import io.jenkins.plugins.casc.impl.attributes.DescribableListAttribute;
 import io.jenkins.plugins.casc.impl.attributes.PersistedListAttribute;
@@ -22,20 +25,19 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import org.apache.commons.lang.StringUtils;
 import org.kohsuke.accmod.AccessRestriction;
-import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.Beta;
 import org.kohsuke.accmod.restrictions.None;
 
@@ -58,50 +60,29 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         Map<String, Attribute<T,?>> attributes = new HashMap<>();
         final Set<String> exclusions = exclusions();
 
-        for (Field field : getTarget().getFields()) {
-            final String name = field.getName();
-            if (exclusions.contains(name)) continue;
+        // Introspection is cached per target class, see AttributeModel
+        final AttributeModel model = AttributeModel.of(getTarget());
 
-            if (PersistedList.class.isAssignableFrom(field.getType())) {
-                if (Modifier.isTransient(field.getModifiers())) {
-                    exclusions.add(name);
-                    continue;
-                }
+        for (AttributeModel.Property property : model.fields) {
+            final String name = property.name;
+            if (exclusions.contains(name)) continue;
 
-                Attribute attribute = createAttribute(name, TypePair.of(field))
-                        .getter(field::get); // get value by direct access to public final field
-                attributes.put(name, attribute);
-            }
+            final Field field = property.field;
+            Attribute attribute = createAttribute(name, property.type)
+                    .getter(field::get); // get value by direct access to public final field
+            attributes.put(name, attribute);
         }
 
-        final Class<T> target = getTarget();
         // Resolve the methods and merging overrides to more concretized signatures
         // because the methods can to have been overridden with concretized type
         // TODO: Overloaded setters with different types can corrupt this logic
-        for (Method method : target.getMethods()) {
-            final String methodName = method.getName();
-            TypePair type;
-            if (method.getParameterCount() == 0 && methodName.startsWith("get")
-                    && PersistedList.class.isAssignableFrom(method.getReturnType())) {
-                type = TypePair.ofReturnType(method);
-            } else if (method.getParameterCount() != 1 || !methodName.startsWith("set")) {
-                // Not an accessor, ignore
-                continue;
-            } else {
-                type = TypePair.ofParameter(method, 0);
-            }
-
-            final String s = methodName.substring(3);
-            final String name = StringUtils.uncapitalize(s);
-            if (exclusions.contains(name)) continue;
-
-            if (!hasGetter(target, s)) {
-                // Looks like a property but no actual getter method we can use to read value
-                continue;
-            }
+        for (AttributeModel.Property property : model.methods) {
+            final String name = property.name;
+            if (exclusions.contains(name) || model.transientFields.contains(name)) continue;
 
             LOGGER.log(Level.FINER, "Processing {0} property", name);
 
+            final TypePair type = property.type;
             if (Map.class.isAssignableFrom(type.rawType)) {
                 // yaml has support for Maps, but as nobody seem to like them we agreed not to support them
                 LOGGER.log(Level.FINER, "{0} is a Map<?,?>. We decided not to support Maps.", name);
@@ -111,9 +92,8 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
             Attribute attribute = createAttribute(name, type);
             if (attribute == null) continue;
 
-            attribute.deprecated(method.getAnnotation(Deprecated.class) != null);
-            final Restricted r = method.getAnnotation(Restricted.class);
-            if (r != null) attribute.restrictions(r.value());
+            attribute.deprecated(property.deprecated);
+            if (property.restrictions != null) attribute.restrictions(property.restrictions);
 
             Attribute prevAttribute = attributes.get(name);
             // Replace the method if it have more concretized type
@@ -125,17 +105,6 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         return new HashSet<>(attributes.values());
     }
 
-    /**
-     * Check if target class has a Getter method for property s
-     */
-    private boolean hasGetter(Class<T> c, String s) {
-        List<String> candidates = Arrays.asList("get"+s, "is"+s);
-        for( Method m : c.getMethods() )
-            if (m.getParameterCount() == 0 && candidates.contains(m.getName()))
-                return true;
-        return false;
-    }
-
     /**
      * Attribute names that are detected by introspection but should be excluded
      */
@@ -300,37 +269,10 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         final Set<Attribute<T,?>> attributes = describe();
         for (Attribute<T,?> attribute : attributes) {
 
-            final String name = attribute.getName();
-            CNode sub = removeIgnoreCase(config, name);
-            if (sub == null) {
-                for (String alias : attribute.aliases) {
-                    sub = removeIgnoreCase(config, alias);
-                    if (sub != null) {
-                        context.warning(sub, "'"+alias+"' is an obsolete attribute name, please use '" + name + "'");
-                        break;
-                    }
-                }
-            }
-
+            final CNode sub = removeAttribute(config, attribute, context);
             if (sub != null) {
 
-                if (attribute.isDeprecated()) {
-                    context.warning(config, "'"+attribute.getName()+"' is deprecated");
-                    if (context.getDeprecated() == ConfigurationContext.Deprecation.reject) {
-                        throw new ConfiguratorException("'"+attribute.getName()+"' is deprecated");
-                    }
-                }
-
-                for (Class<? extends AccessRestriction> r : attribute.getRestrictions()) {
-                    if (r == None.class) continue;
-                    if (r == Beta.class && context.getRestricted() == ConfigurationContext.Restriction.beta) {
-                        continue;
-                    }
-                    context.warning(config, "'"+attribute.getName()+"' is restricted: " + r.getSimpleName());
-                    if (context.getRestricted() == ConfigurationContext.Restriction.reject) {
-                        throw new ConfiguratorException("'"+attribute.getName()+"' is restricted: " + r.getSimpleName());
-                    }
-                }
+                checkUsage(config, attribute, context);
 
                 final Class k = attribute.getType();
                 final Configurator configurator = context.lookupOrFail(k);
@@ -355,7 +297,12 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
 
                 if (!dryrun) {
                     try {
-                        ((Attribute) attribute).setValue(instance, valueToSet); // require type erasure to set Object vs ?
+                        if (context.isWriteOnlyOnChange() && isUnchanged(attribute, instance, valueToSet, context)) {
+                            LOGGER.log(Level.FINER, "{0} didn''t change, skipping", attribute);
+                            context.skippedWrite();
+                        } else {
+                            ((Attribute) attribute).setValue(instance, valueToSet, context); // require type erasure to set Object vs ?
+                        }
                     } catch (Exception ex) {
                         throw new ConfiguratorException(configurator, "Failed to set attribute " + attribute, ex);
                     }
@@ -366,6 +313,72 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         handleUnknown(config, context);
     }
 
+    /**
+     * @return {@code true} if attribute current value is the same as {@code value}, comparing exported configuration
+     *         for components which don't implement {@code equals}
+     */
+    private boolean isUnchanged(Attribute<T, ?> attribute, T instance, Object value, ConfigurationContext context) {
+        try {
+            final Object current = attribute.getValue(instance);
+            if (!attribute.isMultiple()) {
+                return Objects.equals(current, value) || isSameExport(current, value, context);
+            }
+            final List<Object> currentValues = new ArrayList<>();
+            if (current instanceof Iterable) {
+                ((Iterable<?>) current).forEach(currentValues::add);
+            } else if (current instanceof Object[]) {
+                Collections.addAll(currentValues, (Object[]) current);
+            } else {
+                return false;
+            }
+            final List<?> values = (List<?>) value;
+            if (currentValues.size() != values.size()) {
+                return false;
+            }
+            // cheap checks first, so no component is exported if some other one did change
+            final List<Integer> exported = new ArrayList<>();
+            for (int i = 0; i < values.size(); i++) {
+                if (!Objects.equals(currentValues.get(i), values.get(i))) {
+                    if (!isComparableByExport(currentValues.get(i), values.get(i))) {
+                        return false;
+                    }
+                    exported.add(i);
+                }
+            }
+            for (int i : exported) {
+                if (!isSameExport(currentValues.get(i), values.get(i), context)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Failed to compare " + attribute + " with its current value", e);
+            return false;
+        }
+    }
+
+    /**
+     * @return {@code true} if values may be the same even though they're not equal, i.e. they're components of the
+     *         same class, which may not implement {@code equals}. Values like strings, numbers or secrets do.
+     */
+    private static boolean isComparableByExport(Object current, Object value) {
+        return current != null && value != null && current.getClass() == value.getClass()
+                && !(current instanceof CharSequence || current instanceof Number || current instanceof Boolean
+                    || current instanceof Character || current instanceof Enum || current instanceof Secret);
+    }
+
+    /**
+     * Exporting components is costly, so this is only used once cheaper checks are done. Components which can't be
+     * fully exported are never the same.
+     */
+    private static boolean isSameExport(Object current, Object value, ConfigurationContext context) {
+        if (!isComparableByExport(current, value)) {
+            return false;
+        }
+        final String key = ExportedConfiguration.key(current, context);
+        return key != null && key.equals(ExportedConfiguration.key(value, context));
+    }
+
     protected final void handleUnknown(Mapping config, ConfigurationContext context) throws ConfiguratorException {
         if (!config.isEmpty()) {
             final String invalid = StringUtils.join(config.keySet(), ',');
@@ -394,6 +407,50 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         return mapping;
     }
 
+    /**
+     * Warn about a configured attribute which is deprecated or restricted, and reject it if context says so.
+     */
+    protected final void checkUsage(Mapping config, Attribute<T, ?> attribute, ConfigurationContext context) throws ConfiguratorException {
+        if (attribute.isDeprecated()) {
+            context.warning(config, "'"+attribute.getName()+"' is deprecated");
+            if (context.getDeprecated() == ConfigurationContext.Deprecation.reject) {
+                throw new ConfiguratorException("'"+attribute.getName()+"' is deprecated");
+            }
+        }
+
+        for (Class<? extends AccessRestriction> r : attribute.getRestrictions()) {
+            if (r == None.class) continue;
+            if (r == Beta.class && context.getRestricted() == ConfigurationContext.Restriction.beta) {
+                continue;
+            }
+            context.warning(config, "'"+attribute.getName()+"' is restricted: " + r.getSimpleName());
+            if (context.getRestricted() == ConfigurationContext.Restriction.reject) {
+                throw new ConfiguratorException("'"+attribute.getName()+"' is restricted: " + r.getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Remove configuration of an attribute, warning if it's configured using an obsolete name.
+     *
+     * @return attribute configuration, or {@code null} if attribute isn't configured
+     */
+    @CheckForNull
+    protected final CNode removeAttribute(Mapping config, Attribute<T, ?> attribute, ConfigurationContext context) {
+        final String name = attribute.getName();
+        CNode sub = removeIgnoreCase(config, name);
+        if (sub == null) {
+            for (String alias : attribute.aliases) {
+                sub = removeIgnoreCase(config, alias);
+                if (sub != null) {
+                    context.warning(sub, "'"+alias+"' is an obsolete attribute name, please use '" + name + "'");
+                    break;
+                }
+            }
+        }
+        return sub;
+    }
+
     private CNode removeIgnoreCase(Mapping config, String name) {
         for (String k : config.keySet()) {
             if (name.equalsIgnoreCase(k)) {
@@ -15,8 +15,12 @@ import hudson.security.ACL;
 import hudson.security.ACLContext;
 import hudson.security.Permission;
 import hudson.util.FormValidation;
+import io.jenkins.plugins.casc.impl.CachedSchema;
 import io.jenkins.plugins.casc.impl.DefaultConfiguratorRegistry;
+import io.jenkins.plugins.casc.impl.ParallelTasks;
+import io.jenkins.plugins.casc.impl.RootElementIndex;
 import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Checkpoint;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.jenkins.plugins.casc.model.Scalar.Format;
@@ -33,13 +37,14 @@ import io.jenkins.plugins.casc.snakeyaml.nodes.SequenceNode;
 import io.jenkins.plugins.casc.snakeyaml.nodes.Tag;
 import io.jenkins.plugins.casc.snakeyaml.resolver.Resolver;
 import io.jenkins.plugins.casc.snakeyaml.serializer.Serializer;
+import io.jenkins.plugins.casc.yaml.ModelEmitter;
 import io.jenkins.plugins.casc.yaml.YamlSource;
 import io.jenkins.plugins.casc.yaml.YamlUtils;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -57,7 +62,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -86,7 +91,6 @@ import org.kohsuke.stapler.interceptor.RequirePOST;
 import org.kohsuke.stapler.lang.Klass;
 import org.kohsuke.stapler.verb.POST;
 
-import static io.jenkins.plugins.casc.SchemaGeneration.writeJSONSchema;
 import static io.jenkins.plugins.casc.snakeyaml.DumperOptions.FlowStyle.BLOCK;
 import static io.jenkins.plugins.casc.snakeyaml.DumperOptions.ScalarStyle.DOUBLE_QUOTED;
 import static io.jenkins.plugins.casc.snakeyaml.DumperOptions.ScalarStyle.LITERAL;
@@ -109,6 +113,38 @@ public class ConfigurationAsCode extends ManagementLink {
 
     private static final Logger LOGGER = Logger.getLogger(ConfigurationAsCode.class.getName());
 
+    /**
+     * Maximum number of root elements to check at once. Root elements are checked one by one by default.
+     */
+    static /* non-final for script console */ int CHECK_PARALLELISM = Integer.getInteger(ConfigurationAsCode.class.getName() + ".parallelCheck", 1);
+
+    /**
+     * Maximum number of root elements to describe at once on export. Root elements are described one by one by default.
+     * When greater than {@code 1}, all root elements are described before any is written.
+     */
+    static /* non-final for script console */ int EXPORT_PARALLELISM = Integer.getInteger(ConfigurationAsCode.class.getName() + ".parallelExport", 1);
+
+    /**
+     * Set to {@code true} to only set attributes which current value differs from configuration.
+     */
+    static final boolean WRITE_ONLY_ON_CHANGE = Boolean.getBoolean(ConfigurationAsCode.class.getName() + ".writeOnlyOnChange");
+
+    /**
+     * Set to {@code true} to reuse components built while checking configuration when applying it.
+     * <p>
+     * All root elements are checked before any is applied, so a component is then built before earlier root elements
+     * have been applied. Only enable it if no component reads Jenkins state configured by another root element.
+     */
+    static /* non-final for script console */ boolean REUSE_CHECKED_COMPONENTS =
+        Boolean.getBoolean(ConfigurationAsCode.class.getName() + ".reuseCheckedComponents");
+
+    /**
+     * Order of issues reported by {@link #checkWith(Mapping)}: by file then line, issues without a source last.
+     */
+    private static final Comparator<Source> SOURCE_ORDER = Comparator.nullsLast(
+        Comparator.comparing((Source s) -> s.file, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparingInt(s -> s.line));
+
     @Inject
     private DefaultConfiguratorRegistry registry;
 
@@ -116,6 +152,8 @@ public class ConfigurationAsCode extends ManagementLink {
 
     private List<String> sources = Collections.emptyList();
 
+    private final transient DifferentialApply differentialApply = new DifferentialApply();
+
     @CheckForNull
     @Override
     public String getIconFileName() {
@@ -160,7 +198,7 @@ public class ConfigurationAsCode extends ManagementLink {
             response.sendError(HttpServletResponse.SC_FORBIDDEN);
             return;
         }
-        configure();
+        configure(request.getParameter("force") != null);
         response.sendRedirect("");
     }
 
@@ -296,7 +334,17 @@ public class ConfigurationAsCode extends ManagementLink {
      * @throws ConfiguratorException Configuration error
      */
     public void configure() throws ConfiguratorException {
-        configureWith(getStandardConfigSources());
+        configure(false);
+    }
+
+    /**
+     * Main entry point to start configuration process.
+     * @param force apply all root elements, even if differential apply is enabled and their configuration didn't
+     *              change since last time it was applied
+     * @throws ConfiguratorException Configuration error
+     */
+    public void configure(boolean force) throws ConfiguratorException {
+        configureWith(getStandardConfigSources(), force);
     }
 
     private List<YamlSource> getStandardConfigSources() throws ConfiguratorException {
@@ -407,7 +455,8 @@ public class ConfigurationAsCode extends ManagementLink {
     }
 
     /**
-     * Export live jenkins instance configuration as Yaml
+     * Export live jenkins instance configuration as Yaml, or only the root elements and attributes given as
+     * {@code path} parameters
      * @throws Exception
      */
     @RequirePOST
@@ -418,13 +467,24 @@ public class ConfigurationAsCode extends ManagementLink {
             return;
         }
 
+        final String[] paths = req.getParameterValues("path");
+        final Map<RootElementConfigurator, List<String>> selection;
+        try {
+            selection = select(paths != null ? Arrays.asList(paths) : Collections.emptyList());
+        } catch (ConfiguratorException e) {
+            res.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
         res.setContentType("application/x-yaml; charset=utf-8");
         res.addHeader("Content-Disposition", "attachment; filename=jenkins.yaml");
-        export(res.getOutputStream());
+        try (Writer writer = new OutputStreamWriter(res.getOutputStream(), StandardCharsets.UTF_8)) {
+            export(writer, selection, EXPORT_PARALLELISM);
+        }
     }
 
     /**
-     * Export JSONSchema to URL
+     * Export JSONSchema to URL, generated once for the installed plugins
      * @throws Exception
      */
     @Restricted(NoExternalUse.class)
@@ -434,8 +494,7 @@ public class ConfigurationAsCode extends ManagementLink {
             return;
         }
 
-        res.setContentType("application/json; charset=utf-8");
-        res.getWriter().print(writeJSONSchema());
+        CachedSchema.get().serve(req, res);
     }
 
     @RequirePOST
@@ -446,10 +505,10 @@ public class ConfigurationAsCode extends ManagementLink {
             return;
         }
 
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StringWriter out = new StringWriter();
         export(out);
 
-        req.setAttribute("export", out.toString(StandardCharsets.UTF_8.name()));
+        req.setAttribute("export", out.toString());
         req.getView(this, "viewExport.jelly").forward(req, res);
     }
 
@@ -465,27 +524,167 @@ public class ConfigurationAsCode extends ManagementLink {
 
     @Restricted(NoExternalUse.class)
     public void export(OutputStream out) throws Exception {
+        export(out, Collections.emptyList());
+    }
 
-        final List<NodeTuple> tuples = new ArrayList<>();
-
-        final ConfigurationContext context = new ConfigurationContext(registry);
-        for (RootElementConfigurator root : RootElementConfigurator.all()) {
-            final CNode config = root.describe(root.getTargetComponent(context), context);
-            final Node valueNode = toYaml(config);
-            if (valueNode == null) continue;
-            tuples.add(new NodeTuple(
-                    new ScalarNode(Tag.STR, root.getName(), null, null, PLAIN),
-                    valueNode));
+    /**
+     * Export part of live jenkins instance configuration as Yaml.
+     *
+     * @see #export(Writer, Collection)
+     */
+    @Restricted(NoExternalUse.class)
+    public void export(OutputStream out, Collection<String> paths) throws Exception {
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            export(writer, paths);
         }
+    }
 
-        MappingNode root = new MappingNode(Tag.MAP, tuples, BLOCK);
-        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
-            serializeYamlNode(root, writer);
+    /**
+     * Export live jenkins instance configuration as Yaml, writing each root element as soon as it's described.
+     */
+    @Restricted(NoExternalUse.class)
+    public void export(Writer writer) throws Exception {
+        export(writer, Collections.emptyList());
+    }
+
+    /**
+     * Export part of live jenkins instance configuration as Yaml.
+     *
+     * @param paths root elements to export, like {@code credentials}, or dotted paths within them, like
+     *              {@code jenkins.securityRealm}. Names are matched ignoring case, and aliases are accepted. Only
+     *              configurators of the selected root elements and attributes are invoked. Everything is exported if
+     *              empty.
+     * @throws ConfiguratorException if a path doesn't start with a known root element and attribute
+     */
+    @Restricted(NoExternalUse.class)
+    public void export(Writer writer, Collection<String> paths) throws Exception {
+        export(writer, select(paths), EXPORT_PARALLELISM);
+    }
+
+    private void export(Writer writer, Map<RootElementConfigurator, List<String>> selection, int parallelism)
+        throws Exception {
+        final ModelEmitter emitter = new ModelEmitter(writer);
+        final ConfigurationContext context = new ConfigurationContext(registry);
+        final List<RootElementConfigurator> roots = new ArrayList<>(selection.keySet());
+        try {
+            emitter.start();
+            if (parallelism > 1) {
+                final CNode[] described = describeConcurrently(roots, selection, context, parallelism);
+                for (int i = 0; i < described.length; i++) {
+                    emitter.entry(roots.get(i).getName(), described[i]);
+                }
+            } else {
+                for (RootElementConfigurator root : roots) {
+                    emitter.entry(root.getName(), describe(root, selection.get(root), context));
+                }
+            }
+            emitter.end();
         } catch (IOException e) {
             throw new YAMLException(e);
         }
     }
 
+    /**
+     * Resolve paths to export, so unknown root elements and attributes are reported before anything is exported.
+     *
+     * @return root elements to export, in the usual order, with the paths within each of them to export, or
+     *         {@code null} to export the whole root element
+     */
+    private static Map<RootElementConfigurator, List<String>> select(Collection<String> paths)
+        throws ConfiguratorException {
+        final RootElementIndex index = RootElementIndex.get();
+        final Map<RootElementConfigurator, List<String>> requested = new HashMap<>();
+        for (String path : paths) {
+            final String[] names = path.split("\\.", 3);
+            final RootElementConfigurator root = index.lookup(names[0]);
+            if (root == null) {
+                throw new ConfiguratorException(format("No configurator for root element <%s>", names[0]));
+            }
+            if (names.length == 1) {
+                requested.put(root, null);
+                continue;
+            }
+            // attributes below the first one are only known once it's described
+            String attribute = root.lookupAttribute(names[1]).getName();
+            if (names.length == 3) {
+                attribute += '.' + names[2];
+            }
+            if (!requested.containsKey(root) || requested.get(root) != null) {
+                requested.computeIfAbsent(root, r -> new ArrayList<>()).add(attribute);
+            }
+        }
+
+        final Map<RootElementConfigurator, List<String>> selection = new LinkedHashMap<>();
+        for (RootElementConfigurator root : index.all()) {
+            if (paths.isEmpty() || requested.containsKey(root)) {
+                selection.put(root, requested.get(root));
+            }
+        }
+        return selection;
+    }
+
+    private static CNode[] describeConcurrently(List<RootElementConfigurator> roots,
+                                                Map<RootElementConfigurator, List<String>> selection,
+                                                ConfigurationContext context, int parallelism)
+        throws ConfiguratorException {
+        final CNode[] described = new CNode[roots.size()];
+        final List<ParallelTasks.Task> tasks = new ArrayList<>(roots.size());
+        for (int i = 0; i < described.length; i++) {
+            final int index = i;
+            final RootElementConfigurator root = roots.get(i);
+            tasks.add(() -> described[index] = describe(root, selection.get(root), context));
+        }
+        ParallelTasks.run("Configuration-as-Code exporter", tasks, parallelism);
+        return described;
+    }
+
+    /**
+     * @param paths dotted paths within the root element to describe, or {@code null} to describe all of it
+     */
+    @SuppressWarnings("unchecked")
+    private static CNode describe(RootElementConfigurator root, @CheckForNull List<String> paths,
+                                  ConfigurationContext context) throws ConfiguratorException {
+        try {
+            final Object target = root.getTargetComponent(context);
+            if (paths == null) {
+                return root.describe(target, context);
+            }
+            final Mapping mapping = new Mapping();
+            for (String path : paths) {
+                final String[] names = path.split("\\.");
+                CNode node = root.describeAttribute(target, names[0], context);
+                for (int i = 1; node != null && i < names.length; i++) {
+                    if (node.getType() != CNode.Type.MAPPING) {
+                        node = null;
+                        break;
+                    }
+                    final Mapping described = node.asMapping();
+                    final String name = names[i];
+                    names[i] = described.keySet().stream().filter(name::equalsIgnoreCase).findFirst().orElse(name);
+                    node = described.get(names[i]);
+                }
+                if (node == null) continue;
+                Mapping parent = mapping;
+                for (int i = 0; i < names.length - 1; i++) {
+                    final CNode child = parent.get(names[i]);
+                    if (child instanceof Mapping) {
+                        parent = (Mapping) child;
+                    } else {
+                        final Mapping created = new Mapping();
+                        parent.put(names[i], created);
+                        parent = created;
+                    }
+                }
+                parent.put(names[names.length - 1], node);
+            }
+            return mapping;
+        } catch (ConfiguratorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ConfiguratorException(root, format("error exporting '%s'", root.getName()), e);
+        }
+    }
+
     @VisibleForTesting
     @Restricted(NoExternalUse.class)
     public static void serializeYamlNode(Node root, Writer writer) throws IOException {
@@ -612,8 +811,12 @@ public class ConfigurationAsCode extends ManagementLink {
     }
 
     private void configureWith(List<YamlSource> sources) throws ConfiguratorException {
+        configureWith(sources, false);
+    }
+
+    private void configureWith(List<YamlSource> sources, boolean force) throws ConfiguratorException {
         lastTimeLoaded = System.currentTimeMillis();
-        configureWith( YamlUtils.loadFrom(sources) );
+        configureWith( YamlUtils.loadFrom(sources), force );
         closeSources(sources);
     }
 
@@ -686,27 +889,37 @@ public class ConfigurationAsCode extends ManagementLink {
      * @throws ConfiguratorException configuration error
      */
     private static void invokeWith(Mapping entries, ConfiguratorOperation function) throws ConfiguratorException {
+        invokeWith(entries, function, "Configuration-as-Code", 1);
+    }
+
+    /**
+     * @param name        name of the threads running configurators concurrently
+     * @param parallelism maximum number of root elements to run configurators for at once
+     */
+    private static void invokeWith(Mapping entries, ConfiguratorOperation function, String name, int parallelism) throws ConfiguratorException {
 
         // Run configurators by order, consuming entries until all have found a matching configurator.
         // Configurators order is important so that io.jenkins.plugins.casc.plugins.PluginManagerConfigurator run
         // before any other, and can install plugins required by other configuration to successfully parse yaml data
-        for (RootElementConfigurator configurator : RootElementConfigurator.all()) {
-            final Iterator<Map.Entry<String, CNode>> it = entries.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry<String, CNode> entry = it.next();
-                if (! entry.getKey().equalsIgnoreCase(configurator.getName())) {
-                    continue;
-                }
-                try {
-                    function.apply(configurator, entry.getValue());
-                    it.remove();
-                    break;
-                } catch (ConfiguratorException e) {
-                    throw new ConfiguratorException(
-                            configurator,
-                            format("error configuring '%s' with %s configurator", entry.getKey(), configurator.getClass()), e
-                    );
-                }
+        final RootElementIndex index = RootElementIndex.get();
+        final List<RootElementConfigurator> configurators = index.all();
+        final String[] keys = new String[configurators.size()];
+        for (String key : entries.keySet()) {
+            final int i = index.indexOf(key);
+            // a configurator only consumes a single entry, others will be reported as unknown
+            if (i >= 0 && keys[i] == null) {
+                keys[i] = key;
+            }
+        }
+
+        if (parallelism > 1) {
+            invokeConcurrently(entries, configurators, keys, function, name, parallelism);
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                final String key = keys[i];
+                if (key == null) continue;
+                invoke(configurators.get(i), key, entries.get(key), function);
+                entries.remove(key);
             }
         }
 
@@ -716,6 +929,41 @@ public class ConfigurationAsCode extends ManagementLink {
         }
     }
 
+    private static void invokeConcurrently(Mapping entries, List<RootElementConfigurator> configurators, String[] keys,
+                                           ConfiguratorOperation function, String name, int parallelism) throws ConfiguratorException {
+        final List<ParallelTasks.Task> tasks = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            final String key = keys[i];
+            if (key == null) continue;
+            final RootElementConfigurator configurator = configurators.get(i);
+            final CNode node = entries.get(key);
+            if (configurator.getTarget() == ConfigurationContext.class) {
+                // configuration-as-code root element defines how others are configured, so it has to run first
+                invoke(configurator, key, node, function);
+            } else {
+                tasks.add(() -> invoke(configurator, key, node, function));
+            }
+        }
+        ParallelTasks.run(name, tasks, parallelism);
+
+        // entries are only consumed once all configurators ran, as Mapping isn't thread safe
+        for (String key : keys) {
+            if (key != null) entries.remove(key);
+        }
+    }
+
+    private static void invoke(RootElementConfigurator configurator, String key, CNode node, ConfiguratorOperation function)
+        throws ConfiguratorException {
+        try {
+            function.apply(configurator, node);
+        } catch (ConfiguratorException e) {
+            throw new ConfiguratorException(
+                    configurator,
+                    format("error configuring '%s' with %s configurator", key, configurator.getClass()), e
+            );
+        }
+    }
+
     private static void detectVaultPluginMissing() {
         PluginManager pluginManager = Jenkins.get().getPluginManager();
         Set<String> envKeys = System.getenv().keySet();
@@ -726,30 +974,72 @@ public class ConfigurationAsCode extends ManagementLink {
         }
     }
 
-    private void configureWith(Mapping entries) throws ConfiguratorException {
+    private void configureWith(Mapping entries, boolean force) throws ConfiguratorException {
         // Initialize secret sources
         SecretSource.all().forEach(SecretSource::init);
 
+        final Map<String, String> digests = DifferentialApply.ENABLED ? differentialApply.digests(entries) : null;
+        if (digests != null && !force) {
+            differentialApply.skipUnchanged(entries, digests);
+        }
+
         // Check input before actually applying changes,
-        // so we don't let master in a weird state after some ConfiguratorException has been thrown
-        final Mapping clone = entries.clone();
-        checkWith(clone);
+        // so we don't let master in a weird state after some ConfiguratorException has been thrown.
+        // Check consumes entries, which are restored afterwards to be applied.
+        final ConfigurationPlan plan = REUSE_CHECKED_COMPONENTS ? new ConfigurationPlan() : null;
+        try (Checkpoint checkpoint = Checkpoint.of(entries)) {
+            if (plan != null) {
+                // components recorded to be reused when applying are built with the same privileges
+                try (ACLContext acl = ACL.as(ACL.SYSTEM)) {
+                    checkWith(entries, plan);
+                }
+            } else {
+                checkWith(entries);
+            }
+        }
 
         final ObsoleteConfigurationMonitor monitor = ObsoleteConfigurationMonitor.get();
         monitor.reset();
         ConfigurationContext context = new ConfigurationContext(registry);
         context.addListener(monitor::record);
+        if (plan != null) {
+            context.replay(plan);
+        }
+        context.writeOnlyOnChange(WRITE_ONLY_ON_CHANGE);
         try (ACLContext acl = ACL.as(ACL.SYSTEM)) {
             invokeWith(entries, (configurator, config) -> configurator.configure(config, context));
         }
+        if (WRITE_ONLY_ON_CHANGE) {
+            LOGGER.log(Level.INFO, "Skipped setting {0} attribute(s) which value didn''t change", context.getSkippedWrites());
+        }
+        if (digests != null) {
+            differentialApply.applied(digests);
+        }
     }
 
     public Map<Source, String> checkWith(Mapping entries) throws ConfiguratorException {
-        Map<Source, String> issues = new HashMap<>();
+        return checkWith(entries, null);
+    }
+
+    /**
+     * @return issues, ordered by source
+     */
+    private Map<Source, String> checkWith(Mapping entries, @CheckForNull ConfigurationPlan plan) throws ConfiguratorException {
+        // root elements might be checked concurrently
+        Map<Source, String> issues = Collections.synchronizedMap(new HashMap<>());
         ConfigurationContext context = new ConfigurationContext(registry);
         context.addListener( (node,message) -> issues.put(node.getSource(), message) );
-        invokeWith(entries, (configurator, config) -> configurator.check(config, context));
-        return issues;
+        if (plan != null) {
+            context.record(plan);
+        }
+        invokeWith(entries, (configurator, config) -> configurator.check(config, context),
+            "Configuration-as-Code checker", CHECK_PARALLELISM);
+
+        final List<Map.Entry<Source, String>> sorted = new ArrayList<>(issues.entrySet());
+        sorted.sort(Map.Entry.comparingByKey(SOURCE_ORDER));
+        final Map<Source, String> ordered = new LinkedHashMap<>();
+        sorted.forEach(e -> ordered.put(e.getKey(), e.getValue()));
+        return ordered;
     }
 
 
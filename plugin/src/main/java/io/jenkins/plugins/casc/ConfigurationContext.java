@@ -4,8 +4,11 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.jenkins.plugins.casc.model.CNode;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.Stapler;
 
 /**
@@ -26,12 +29,21 @@ public class ConfigurationContext implements ConfiguratorRegistry {
      */
     private Version version = Version.ONE;
 
-    private transient List<Listener> listeners = new ArrayList<>();
+    // descriptors of a category may be configured concurrently
+    private transient List<Listener> listeners = new CopyOnWriteArrayList<>();
 
     private transient final ConfiguratorRegistry registry;
 
     private transient String mode;
 
+    private transient ConfigurationPlan plan;
+
+    private transient boolean recording;
+
+    private transient boolean writeOnlyOnChange;
+
+    private transient final AtomicInteger skippedWrites = new AtomicInteger();
+
     public ConfigurationContext(ConfiguratorRegistry registry) {
         this.registry = registry;
     }
@@ -72,6 +84,62 @@ public class ConfigurationContext implements ConfiguratorRegistry {
         this.mode = mode;
     }
 
+    /**
+     * Record components built while checking configuration, so they can be reused to apply it.
+     */
+    @Restricted(NoExternalUse.class)
+    public void record(@NonNull ConfigurationPlan plan) {
+        this.plan = plan;
+        this.recording = true;
+        addListener(plan);
+    }
+
+    /**
+     * Reuse components recorded while checking configuration.
+     */
+    @Restricted(NoExternalUse.class)
+    public void replay(@NonNull ConfigurationPlan plan) {
+        this.plan = plan;
+        this.recording = false;
+    }
+
+    @CheckForNull
+    @Restricted(NoExternalUse.class)
+    public ConfigurationPlan getRecordingPlan() {
+        return recording ? plan : null;
+    }
+
+    @CheckForNull
+    @Restricted(NoExternalUse.class)
+    public ConfigurationPlan getReplayingPlan() {
+        return recording ? null : plan;
+    }
+
+    /**
+     * Only set attributes which current value differs from configuration.
+     */
+    @Restricted(NoExternalUse.class)
+    public void writeOnlyOnChange(boolean writeOnlyOnChange) {
+        this.writeOnlyOnChange = writeOnlyOnChange;
+    }
+
+    @Restricted(NoExternalUse.class)
+    public boolean isWriteOnlyOnChange() {
+        return writeOnlyOnChange;
+    }
+
+    void skippedWrite() {
+        skippedWrites.incrementAndGet();
+    }
+
+    /**
+     * @return number of attributes which have not been set as their value didn't change
+     */
+    @Restricted(NoExternalUse.class)
+    public int getSkippedWrites() {
+        return skippedWrites.get();
+    }
+
 
 
     // --- delegate methods for ConfigurationContext
@@ -0,0 +1,118 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.casc.model.CNode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Components built while checking configuration, so applying the same configuration can reuse them rather than
+ * building them again.
+ * <p>
+ * Only configurators which build components without side effects on Jenkins, like
+ * {@link io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator}, record what they build. Components are
+ * recorded by configuration node, as check and apply run on the very same model. Warnings emitted while building a
+ * component are recorded too, so they're reported again when the component is reused.
+ * <p>
+ * As all root elements are checked before any is applied, reused components are built before earlier root elements
+ * have been applied. This is only used when explicitly enabled, see {@code ConfigurationAsCode.reuseCheckedComponents}.
+ */
+@Restricted(NoExternalUse.class)
+public final class ConfigurationPlan implements ConfigurationContext.Listener {
+
+    private final Map<CNode, Step> steps = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final ThreadLocal<Deque<List<Warning>>> recording = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @FunctionalInterface
+    public interface Builder<T> {
+        T build() throws ConfiguratorException;
+    }
+
+    /**
+     * Build a component from configuration node while checking configuration, and record it.
+     *
+     * @param initialized whether component has been fully initialized, including {@link javax.annotation.PostConstruct}
+     *                    methods
+     */
+    public <T> T record(@NonNull CNode node, boolean initialized, Builder<T> builder) throws ConfiguratorException {
+        final Deque<List<Warning>> stack = recording.get();
+        final List<Warning> warnings = new ArrayList<>();
+        stack.push(warnings);
+        final T instance;
+        try {
+            instance = builder.build();
+        } finally {
+            stack.pop();
+        }
+        steps.put(node, new Step(instance, initialized, warnings));
+        return instance;
+    }
+
+    /**
+     * Take the component built from configuration node while checking configuration, reporting warnings again
+     * to context.
+     *
+     * @return the component, or {@code null} if none has been recorded for this node
+     */
+    @CheckForNull
+    public Step take(@NonNull CNode node, ConfigurationContext context) {
+        final Step step = steps.remove(node);
+        if (step != null) {
+            for (Warning warning : step.warnings) {
+                context.warning(warning.node, warning.message);
+            }
+        }
+        return step;
+    }
+
+    @Override
+    public void warning(@NonNull CNode node, @NonNull String error) {
+        for (List<Warning> warnings : recording.get()) {
+            warnings.add(new Warning(node, error));
+        }
+    }
+
+    public static final class Step {
+
+        private final Object instance;
+
+        private final boolean initialized;
+
+        private final List<Warning> warnings;
+
+        private Step(Object instance, boolean initialized, List<Warning> warnings) {
+            this.instance = instance;
+            this.initialized = initialized;
+            this.warnings = warnings;
+        }
+
+        public Object getInstance() {
+            return instance;
+        }
+
+        public boolean isInitialized() {
+            return initialized;
+        }
+    }
+
+    private static final class Warning {
+
+        final CNode node;
+
+        final String message;
+
+        Warning(CNode node, String message) {
+            this.node = node;
+            this.message = message;
+        }
+    }
+}
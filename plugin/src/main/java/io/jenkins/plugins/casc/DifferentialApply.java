@@ -0,0 +1,127 @@
+package io.jenkins.plugins.casc;
+
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
+import io.jenkins.plugins.casc.impl.RootElementIndex;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Sequence;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+
+/**
+ * Tracks configuration of root elements successfully applied, so root elements which configuration didn't change
+ * can be skipped on next apply.
+ * <p>
+ * Root elements which configuration relies on variables, like secrets, are always applied as the resolved values
+ * might have changed. A root element may rely on the state of root elements applied before it, so once a root element
+ * has to be applied, all following ones are applied too. All root elements are applied again once extensions have
+ * changed, typically when a plugin is dynamically loaded.
+ */
+final class DifferentialApply {
+
+    private static final Logger LOGGER = Logger.getLogger(DifferentialApply.class.getName());
+
+    /**
+     * Set to {@code true} to only apply root elements which configuration changed since last successful apply.
+     */
+    static /* non-final for script console */ boolean ENABLED = Boolean.getBoolean(ConfigurationAsCode.class.getName() + ".differentialApply");
+
+    /**
+     * Digest of root elements configuration, as last applied.
+     */
+    private Map<String, String> applied = Collections.emptyMap();
+
+    private long generation = -1;
+
+    /**
+     * @return digest of configuration for each root element, or {@code null} for root elements relying on variables
+     */
+    Map<String, String> digests(Mapping entries) {
+        final Map<String, String> digests = new HashMap<>();
+        entries.forEach((key, node) -> digests.put(key, digest(node)));
+        return digests;
+    }
+
+    /**
+     * Remove root elements which configuration is the same as last successfully applied, and which are applied before
+     * any root element which configuration changed.
+     */
+    synchronized void skipUnchanged(Mapping entries, Map<String, String> digests) {
+        if (generation != ExtensionsChangeListener.getGeneration()) {
+            return;
+        }
+        final RootElementIndex index = RootElementIndex.get();
+        final List<String> keys = new ArrayList<>(entries.keySet());
+        // unknown root elements are reported once all others have been applied
+        keys.sort(Comparator.comparingInt(key -> {
+            final int i = index.indexOf(key);
+            return i >= 0 ? i : Integer.MAX_VALUE;
+        }));
+
+        final List<String> unchanged = new ArrayList<>();
+        for (String key : keys) {
+            final String digest = digests.get(key);
+            if (digest == null || !digest.equals(applied.get(key))) {
+                final RootElementConfigurator<?> configurator = index.lookup(key);
+                if (configurator != null && configurator.getTarget() == ConfigurationContext.class) {
+                    // defines how all other root elements are configured
+                    return;
+                }
+                break;
+            }
+            unchanged.add(key);
+        }
+        for (String key : unchanged) {
+            LOGGER.log(Level.FINE, "Configuration for root element {0} didn't change, skipping", key);
+            entries.remove(key);
+        }
+        if (!unchanged.isEmpty()) {
+            LOGGER.log(Level.INFO, "Skipping {0} unchanged root element(s)", unchanged.size());
+        }
+    }
+
+    /**
+     * Record configuration as successfully applied.
+     *
+     * @param digests digest of all root elements, including skipped ones
+     */
+    synchronized void applied(Map<String, String> digests) {
+        this.applied = digests;
+        this.generation = ExtensionsChangeListener.getGeneration();
+    }
+
+    @CheckForNull
+    private static String digest(@CheckForNull CNode node) {
+        if (node == null) {
+            return "";
+        }
+        return usesVariables(node) ? null : node.digest();
+    }
+
+    private static boolean usesVariables(@CheckForNull CNode node) {
+        if (node == null) {
+            return false;
+        }
+        switch (node.getType()) {
+            case SCALAR:
+                return node.toString().contains("${");
+            case SEQUENCE:
+                for (CNode item : (Sequence) node) {
+                    if (usesVariables(item)) return true;
+                }
+                return false;
+            default:
+                for (CNode value : ((Mapping) node).values()) {
+                    if (usesVariables(value)) return true;
+                }
+                return false;
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package io.jenkins.plugins.casc;
 
-import hudson.model.Descriptor;
-import hudson.model.ManagementLink;
-import io.jenkins.plugins.casc.impl.configurators.DescriptorConfigurator;
-import io.jenkins.plugins.casc.impl.configurators.GlobalConfigurationCategoryConfigurator;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.casc.impl.RootElementIndex;
+import io.jenkins.plugins.casc.model.CNode;
 import java.util.ArrayList;
 import java.util.List;
-import jenkins.model.GlobalConfigurationCategory;
-import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 /**
  * Define a {@link Configurator} which handles a root configuration element, identified by name.
@@ -17,23 +17,12 @@ import jenkins.model.Jenkins;
 
 public interface RootElementConfigurator<T> extends Configurator<T> {
 
+    /**
+     * @return all root element configurators, in the order they have to be run.
+     * Computed once for the set of installed plugins, see {@link RootElementIndex}.
+     */
     static List<RootElementConfigurator> all() {
-        final Jenkins jenkins = Jenkins.get();
-        List<RootElementConfigurator> configurators = new ArrayList<>(
-            jenkins.getExtensionList(RootElementConfigurator.class));
-
-        for (GlobalConfigurationCategory category : GlobalConfigurationCategory.all()) {
-            configurators.add(new GlobalConfigurationCategoryConfigurator(category));
-        }
-
-        for (ManagementLink link : ManagementLink.all()) {
-            final String name = link.getUrlName();
-            final Descriptor descriptor = Jenkins.get().getDescriptor(name);
-            if (descriptor != null)
-                configurators.add(new DescriptorConfigurator(descriptor));
-        }
-
-        return configurators;
+        return new ArrayList<>(RootElementIndex.get().all());
     }
 
     /* This function is used for configurator-pointer in the documentation.jelly file only. */
@@ -47,4 +36,32 @@ public interface RootElementConfigurator<T> extends Configurator<T> {
      * @param context
      */
     T getTargetComponent(ConfigurationContext context);
+
+    /**
+     * Describe a single attribute of the target component, as it would appear in {@link #describe(Object, ConfigurationContext)}.
+     * Used for partial export, so implementations should only describe what's needed for this attribute.
+     * Values at their default are filtered out exactly as in a full export: nested components leave them out, but
+     * attributes of a root element with no reference instance, like {@code jenkins.numExecutors}, are always described.
+     *
+     * @param name name of the attribute, or one of its aliases, ignoring case
+     * @return attribute description, or {@code null} if there's nothing to export for it
+     * @throws ConfiguratorException if there's no such attribute
+     */
+    @CheckForNull
+    default CNode describeAttribute(T instance, String name, ConfigurationContext context) throws Exception {
+        final Attribute<T, ?> attribute = lookupAttribute(name);
+        final CNode node = describe(instance, context);
+        return node != null && node.getType() == CNode.Type.MAPPING ? node.asMapping().get(attribute.getName()) : null;
+    }
+
+    /**
+     * @return attribute named {@code name}, or one of its aliases, ignoring case
+     * @throws ConfiguratorException if there's no such attribute
+     */
+    @NonNull
+    @Restricted(NoExternalUse.class)
+    default Attribute<T, ?> lookupAttribute(String name) throws ConfiguratorException {
+        return Attribute.lookup(describe(), name).orElseThrow(() -> new ConfiguratorException(this,
+            String.format("No attribute <%s> for root element <%s>", name, getName())));
+    }
 }
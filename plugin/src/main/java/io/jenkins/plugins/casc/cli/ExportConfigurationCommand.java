@@ -3,9 +3,12 @@ package io.jenkins.plugins.casc.cli;
 import hudson.Extension;
 import hudson.cli.CLICommand;
 import io.jenkins.plugins.casc.ConfigurationAsCode;
+import java.util.ArrayList;
+import java.util.List;
 import jenkins.model.Jenkins;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.args4j.Argument;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -14,6 +17,11 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
 @Restricted(NoExternalUse.class)
 public class ExportConfigurationCommand extends CLICommand {
 
+    @Argument(metaVar = "PATH", multiValued = true,
+        usage = "Root elements or dotted paths within them to export, like credentials or jenkins.securityRealm. Everything is exported by default. "
+            + "Selected attributes are exported as in a full export, so jenkins.numExecutors is exported even at its default value")
+    public List<String> paths = new ArrayList<>();
+
     @Override
     public String getShortDescription() {
         return "Export jenkins configuration as YAML";
@@ -27,7 +35,7 @@ public class ExportConfigurationCommand extends CLICommand {
         }
 
 
-        ConfigurationAsCode.get().export(stdout);
+        ConfigurationAsCode.get().export(stdout, paths);
         return 0;
     }
 }
@@ -6,6 +6,7 @@ import io.jenkins.plugins.casc.ConfigurationAsCode;
 import jenkins.model.Jenkins;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.args4j.Option;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -14,6 +15,9 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
 @Restricted(NoExternalUse.class)
 public class ReloadJCascConfigurationCommand extends CLICommand {
 
+    @Option(name = "--force", usage = "Apply all root elements, even those which configuration didn't change")
+    public boolean force;
+
     @Override
     public String getShortDescription() {
         return "Reload JCasC YAML configuration";
@@ -26,7 +30,7 @@ public class ReloadJCascConfigurationCommand extends CLICommand {
             return -1;
         }
 
-        ConfigurationAsCode.get().configure();
+        ConfigurationAsCode.get().configure(force);
         return 0;
     }
 }
@@ -1,5 +1,6 @@
 package io.jenkins.plugins.casc.core;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
 import hudson.ProxyConfiguration;
@@ -10,12 +11,21 @@ import hudson.slaves.EphemeralNode;
 import io.jenkins.plugins.casc.Attribute;
 import io.jenkins.plugins.casc.BaseConfigurator;
 import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
 import io.jenkins.plugins.casc.RootElementConfigurator;
+import io.jenkins.plugins.casc.impl.ExportedConfiguration;
+import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.vavr.control.Try;
+import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import jenkins.model.Jenkins;
 import jenkins.security.s2m.AdminWhitelistRule;
@@ -31,6 +41,8 @@ import static io.jenkins.plugins.casc.Attribute.noop;
 @Restricted(NoExternalUse.class)
 public class JenkinsConfigurator extends BaseConfigurator<Jenkins> implements RootElementConfigurator<Jenkins> {
 
+    private static final Logger LOGGER = Logger.getLogger(JenkinsConfigurator.class.getName());
+
     @Override
     public Class<Jenkins> getTarget() {
         return Jenkins.class;
@@ -57,23 +69,13 @@ public class JenkinsConfigurator extends BaseConfigurator<Jenkins> implements Ro
                 .setter( noop() ));
 
         // Override "nodes" getter so we don't export Nodes registered by Cloud plugins
-        Attribute.<Jenkins, List<Node>>get(attributes, "nodes").ifPresent(attribute ->
-                attribute
-                        .getter(jenkins -> jenkins.getNodes().stream()
-                                .filter(node -> !isCloudNode(node))
-                                .collect(Collectors.toList()))
-                        .setter((jenkins, configuredNodes) -> {
-                            List<String> configuredNodesNames = configuredNodes.stream()
-                                    .map(Node::getNodeName)
-                                    .collect(Collectors.toList());
-                            List<Node> nodesToKeep = jenkins.getNodes().stream()
-                                    .filter(node -> !configuredNodesNames.contains(node.getNodeName()))
-                                    .filter(this::isCloudNode)
-                                    .collect(Collectors.toList());
-                            nodesToKeep.addAll(configuredNodes);
-                            jenkins.setNodes(nodesToKeep);
-                        })
-        );
+        Attribute.<Jenkins, List<Node>>get(attributes, "nodes").ifPresent(attribute -> {
+            attributes.remove(attribute);
+            attributes.add(new NodesAttribute(attribute)
+                    .getter(jenkins -> jenkins.getNodes().stream()
+                            .filter(node -> !isCloudNode(node))
+                            .collect(Collectors.toList())));
+        });
 
         // Add updateCenter, all legwork will be done by a configurator
         attributes.add(new Attribute<Jenkins, UpdateCenter>("updateCenter", UpdateCenter.class)
@@ -88,6 +90,76 @@ public class JenkinsConfigurator extends BaseConfigurator<Jenkins> implements Ro
     }
 
 
+    /**
+     * As {@link #describe(Object, ConfigurationContext)} doesn't compare Jenkins to a reference instance,
+     * the attribute is described even when it has its default value.
+     */
+    @CheckForNull
+    @Override
+    public CNode describeAttribute(Jenkins instance, String name, ConfigurationContext context) throws Exception {
+        return lookupAttribute(name).describe(instance, context);
+    }
+
+    /**
+     * Update nodes so they match configuration, keeping nodes registered by Cloud plugins.
+     * <p>
+     * Only nodes which are added, removed or which configuration changed are updated, so unchanged nodes are neither
+     * persisted again nor replaced.
+     */
+    private void reconcileNodes(Jenkins jenkins, List<Node> configuredNodes, ConfigurationContext context) throws IOException {
+        final Map<String, Node> configured = new LinkedHashMap<>();
+        for (Node node : configuredNodes) {
+            configured.put(node.getNodeName(), node);
+        }
+
+        final Map<String, Node> live = new HashMap<>();
+        for (Node node : jenkins.getNodes()) {
+            if (configured.containsKey(node.getNodeName())) {
+                live.put(node.getNodeName(), node);
+            } else if (!isCloudNode(node)) {
+                LOGGER.log(Level.FINE, "Removing node {0}", node.getNodeName());
+                jenkins.removeNode(node);
+            }
+        }
+
+        int unchanged = 0;
+        for (Node node : configured.values()) {
+            final Node current = live.get(node.getNodeName());
+            if (current != null && !isCloudNode(current)) {
+                final String key = ExportedConfiguration.key(current, context);
+                if (key != null && key.equals(ExportedConfiguration.key(node, context))) {
+                    unchanged++;
+                    continue;
+                }
+            }
+            LOGGER.log(Level.FINE, "Updating node {0}", node.getNodeName());
+            // replaces the node with the same name, if any
+            jenkins.addNode(node);
+        }
+        LOGGER.log(Level.FINE, "{0} nodes are unchanged", unchanged);
+    }
+
+    /**
+     * Nodes are reconciled with configuration using the context of the configuration being applied.
+     */
+    private final class NodesAttribute extends Attribute<Jenkins, List<Node>> {
+
+        NodesAttribute(Attribute<Jenkins, List<Node>> nodes) {
+            super(nodes.getName(), nodes.getType());
+            multiple(nodes.isMultiple());
+        }
+
+        @Override
+        public void setValue(Jenkins target, List<Node> value) throws Exception {
+            reconcileNodes(target, value, new ConfigurationContext(ConfiguratorRegistry.get()));
+        }
+
+        @Override
+        public void setValue(Jenkins target, List<Node> value, ConfigurationContext context) throws Exception {
+            reconcileNodes(target, value, context);
+        }
+    }
+
     private boolean isCloudNode(Node node) {
         boolean instantiable = Try.of(() -> node.getDescriptor().isInstantiable()).getOrElse(true);
         final boolean cloudSlave = node instanceof AbstractCloudSlave;
@@ -0,0 +1,160 @@
+package io.jenkins.plugins.casc.impl;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.PluginWrapper;
+import hudson.Util;
+import io.jenkins.plugins.casc.SchemaGeneration;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.StaplerRequest;
+import org.kohsuke.stapler.StaplerResponse;
+
+/**
+ * JSON schema generated once for a set of installed plugins, and dropped when extensions change.
+ * <p>
+ * The schema is identified by a fingerprint of Jenkins and plugins versions, used as entity tag so clients can
+ * revalidate their copy without downloading it again, even after a restart.
+ *
+ * @see SchemaGeneration
+ * @see ExtensionsChangeListener
+ */
+@Restricted(NoExternalUse.class)
+public final class CachedSchema {
+
+    private static final Logger LOGGER = Logger.getLogger(CachedSchema.class.getName());
+
+    private static volatile CachedSchema current;
+
+    static {
+        ExtensionsChangeListener.addCallback(() -> current = null);
+    }
+
+    private final long generation;
+
+    private final String etag;
+
+    private final byte[] json;
+
+    private volatile byte[] gzip;
+
+    private CachedSchema(long generation, String etag, byte[] json) {
+        this.generation = generation;
+        this.etag = etag;
+        this.json = json;
+    }
+
+    @NonNull
+    public static CachedSchema get() {
+        CachedSchema schema = current;
+        final long generation = ExtensionsChangeListener.getGeneration();
+        if (schema == null || schema.generation != generation) {
+            synchronized (CachedSchema.class) {
+                schema = current;
+                if (schema == null || schema.generation != generation) {
+                    LOGGER.log(Level.FINE, "Generating JSON schema");
+                    final byte[] json = SchemaGeneration.writeJSONSchema().getBytes(StandardCharsets.UTF_8);
+                    schema = new CachedSchema(generation, '"' + fingerprint(Jenkins.get()) + '"', json);
+                    current = schema;
+                }
+            }
+        }
+        return schema;
+    }
+
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * Send schema, or only a {@code 304 Not Modified} status if client already has it. Schema is sent compressed
+     * if client accepts it.
+     */
+    public void serve(StaplerRequest req, StaplerResponse res) throws IOException {
+        res.setHeader("ETag", etag);
+        res.setHeader("Cache-Control", "private, no-cache");
+        res.setHeader("Vary", "Accept-Encoding");
+        if (matches(req.getHeader("If-None-Match"))) {
+            res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        res.setContentType("application/json; charset=utf-8");
+        final byte[] body;
+        if (acceptsGzip(req.getHeader("Accept-Encoding"))) {
+            res.setHeader("Content-Encoding", "gzip");
+            body = gzip();
+        } else {
+            body = json;
+        }
+        res.setContentLength(body.length);
+        res.getOutputStream().write(body);
+    }
+
+    private boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] parameters = coding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase("gzip")) {
+                return parameters.length < 2 || !parameters[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private byte[] gzip() throws IOException {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+                zip.write(json);
+            }
+            compressed = out.toByteArray();
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    /**
+     * @return hash of Jenkins version and of installed plugins versions
+     */
+    private static String fingerprint(Jenkins jenkins) {
+        final List<String> plugins = new ArrayList<>();
+        for (PluginWrapper plugin : jenkins.getPluginManager().getPlugins()) {
+            plugins.add(plugin.getShortName() + ':' + plugin.getVersion() + ':' + plugin.isActive());
+        }
+        plugins.sort(null);
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(Jenkins.VERSION).getBytes(StandardCharsets.UTF_8));
+            for (String plugin : plugins) {
+                digest.update((byte) '\n');
+                digest.update(plugin.getBytes(StandardCharsets.UTF_8));
+            }
+            return Util.toHexString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
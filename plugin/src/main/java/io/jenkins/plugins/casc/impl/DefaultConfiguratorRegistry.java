@@ -1,8 +1,5 @@
 package io.jenkins.plugins.casc.impl;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
@@ -25,9 +22,16 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import jenkins.model.Jenkins;
 import org.jvnet.tiger_types.Types;
@@ -48,12 +52,7 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
     @Override
     @CheckForNull
     public RootElementConfigurator lookupRootElement(String name) {
-        for (RootElementConfigurator c : RootElementConfigurator.all()) {
-            if (c.getName().equalsIgnoreCase(name)) {
-                return c;
-            }
-        }
-        return null;
+        return RootElementIndex.get().lookup(name);
     }
 
     /**
@@ -65,11 +64,9 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
     @Override
     @NonNull
     public Configurator lookupOrFail(Type type) throws ConfiguratorException {
-        try {
-            return cache.get(type);
-        } catch (ExecutionException e) {
-            throw (ConfiguratorException) e.getCause();
-        }
+        final Configurator configurator = lookup(type);
+        if (configurator == null) throw new ConfiguratorException("Cannot find configurator for type " + type);
+        return configurator;
     }
 
     /**
@@ -80,34 +77,148 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
     @Override
     @CheckForNull
     public Configurator lookup(Type type) {
-        try {
-            return cache.get(type);
-        } catch (ExecutionException e) {
+        checkGeneration();
+        Configurator configurator = cache.get(type);
+        if (configurator != null) {
+            hits.increment();
+            return configurator;
+        }
+        if (unknown.contains(type)) {
+            // we already know there's no configurator for this type, don't scan again
+            hits.increment();
             return null;
         }
+        misses.increment();
+        configurator = internalLookup(type);
+        if (configurator == null) {
+            if (unknown.add(type)) {
+                LOGGER.warning("Configuration-as-Code can't handle type "+ type);
+            }
+            return null;
+        }
+        final Configurator previous = cache.putIfAbsent(type, configurator);
+        return previous != null ? previous : configurator;
     }
 
-    private LoadingCache<Type, Configurator> cache = CacheBuilder.newBuilder()
-            .expireAfterAccess(10, TimeUnit.SECONDS)
-            .build(new CacheLoader<Type, Configurator>() {
-                @Override
-                public Configurator load(@NonNull Type type) throws Exception {
-                    final Configurator configurator = internalLookup(type);
-                    if (configurator == null) throw new ConfiguratorException("Cannot find configurator for type " + type);
-                    return configurator;
-                }
-            });
+    /**
+     * Resolved configurators are kept until extensions change, typically when a plugin is dynamically loaded.
+     */
+    private final Map<Type, Configurator> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Types we know there's no configurator for, with the same lifecycle as {@link #cache}.
+     */
+    private final Set<Type> unknown = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Index of dedicated {@link Configurator} extensions by target class, as long as they rely on the default
+     * {@link Configurator#canConfigure(Class)} implementation.
+     */
+    private volatile Map<Class, Dedicated> dedicated = Collections.emptyMap();
+
+    /**
+     * Dedicated {@link Configurator} extensions with a custom {@link Configurator#canConfigure(Class)} implementation.
+     */
+    private volatile List<Dedicated> custom = Collections.emptyList();
+
+    private volatile long generation = -1;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    /**
+     * @return number of lookups served from cache, including types we know there's no configurator for
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups which required to resolve a configurator
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of times the cache has been rebuilt after extensions changed
+     */
+    public long getRebuilds() {
+        return rebuilds.sum();
+    }
+
+    private void checkGeneration() {
+        if (generation != ExtensionsChangeListener.getGeneration()) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        final long current = ExtensionsChangeListener.getGeneration();
+        if (generation == current) return;
+
+        cache.clear();
+        unknown.clear();
+        final Map<Class, Dedicated> index = new HashMap<>();
+        final List<Dedicated> others = new ArrayList<>();
+        int position = 0;
+        for (Configurator c : Jenkins.get().getExtensionList(Configurator.class)) {
+            final Dedicated d = new Dedicated(position++, c);
+            if (hasCustomCanConfigure(c)) {
+                others.add(d);
+            } else {
+                // first registered one wins, as ExtensionList is sorted by ordinal
+                index.putIfAbsent(c.getTarget(), d);
+            }
+        }
+        dedicated = index;
+        custom = others;
+        generation = current;
+        rebuilds.increment();
+        LOGGER.log(Level.FINE, "Rebuilt configurators index, {0} dedicated configurators by type and {1} custom ones",
+                new Object[] {index.size(), others.size()});
+    }
+
+    private static boolean hasCustomCanConfigure(Configurator c) {
+        try {
+            return c.getClass().getMethod("canConfigure", Class.class).getDeclaringClass() != Configurator.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    @CheckForNull
+    private Configurator lookupDedicated(Class clazz) {
+        final Dedicated exact = dedicated.get(clazz);
+        // preserve extension ordering in case a custom configurator registered before also can handle clazz
+        for (Dedicated d : custom) {
+            if (exact != null && d.position > exact.position) break;
+            if (d.configurator.canConfigure(clazz)) {
+                return d.configurator;
+            }
+        }
+        return exact != null ? exact.configurator : null;
+    }
+
+    private static final class Dedicated {
+        final int position;
+        final Configurator configurator;
+
+        Dedicated(int position, Configurator configurator) {
+            this.position = position;
+            this.configurator = configurator;
+        }
+    }
 
     private Configurator internalLookup(Type type) {
         Class clazz = Types.erasure(type);
 
         final Jenkins jenkins = Jenkins.get();
-        final ExtensionList<Configurator> l = jenkins.getExtensionList(Configurator.class);
-        for (Configurator c : l) {
-            if (c.canConfigure(clazz)) {
-                // this type has a dedicated Configurator implementation
-                return c;
-            }
+        final Configurator configurator = lookupDedicated(clazz);
+        if (configurator != null) {
+            // this type has a dedicated Configurator implementation
+            return configurator;
         }
 
         //TODO: Only try to cast if we can actually get the parameterized type
@@ -158,7 +269,6 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
             return new EnumConfigurator(clazz);
         }
 
-        LOGGER.warning("Configuration-as-Code can't handle type "+ type);
         return null;
     }
 
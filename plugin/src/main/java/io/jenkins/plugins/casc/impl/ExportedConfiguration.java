@@ -0,0 +1,77 @@
+package io.jenkins.plugins.casc.impl;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.model.CNode;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Compares live components by their exported configuration, as most of them don't implement {@code equals}.
+ */
+@Restricted(NoExternalUse.class)
+public final class ExportedConfiguration {
+
+    private static final Logger LOGGER = Logger.getLogger(ExportedConfiguration.class.getName());
+
+    /**
+     * Prefix of the value exported for attributes which failed to export.
+     */
+    private static final String FAILED_TO_EXPORT = "FAILED TO EXPORT";
+
+    private ExportedConfiguration() {
+    }
+
+    /**
+     * @return key identifying the class and exported configuration of a component, or {@code null} if it can't be
+     *         exported, even partially. Components with the same key are configured the same way.
+     */
+    @CheckForNull
+    public static String key(@CheckForNull Object component, @NonNull ConfigurationContext context) {
+        if (component == null) {
+            return null;
+        }
+        final Configurator configurator = context.lookup(component.getClass());
+        if (configurator == null) {
+            return null;
+        }
+        try {
+            final CNode node = configurator.describe(component, context);
+            if (hasFailure(node)) {
+                LOGGER.log(Level.FINE, "Failed to export some attributes of {0}", component);
+                return null;
+            }
+            return component.getClass().getName() + ':' + (node != null ? node.digest() : "");
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Failed to export " + component, e);
+            return null;
+        }
+    }
+
+    private static boolean hasFailure(@CheckForNull CNode node) throws ConfiguratorException {
+        if (node == null) {
+            return false;
+        }
+        switch (node.getType()) {
+            case MAPPING:
+                for (CNode value : node.asMapping().values()) {
+                    if (hasFailure(value)) return true;
+                }
+                return false;
+            case SEQUENCE:
+                for (CNode item : node.asSequence()) {
+                    if (hasFailure(item)) return true;
+                }
+                return false;
+            case SCALAR:
+            default:
+                final String value = node.asScalar().getValue();
+                return value != null && value.startsWith(FAILED_TO_EXPORT);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.jenkins.plugins.casc.impl;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.ExtensionList;
+import hudson.ExtensionListListener;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Descriptor;
+import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.RootElementConfigurator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Drops the caches Configuration-as-Code builds by introspecting plugins classes when the set of extensions changes,
+ * typically when a plugin is dynamically loaded.
+ */
+@Restricted(NoExternalUse.class)
+public final class ExtensionsChangeListener extends ExtensionListListener {
+
+    private static final Logger LOGGER = Logger.getLogger(ExtensionsChangeListener.class.getName());
+
+    private static final ExtensionsChangeListener INSTANCE = new ExtensionsChangeListener();
+
+    private static final List<Runnable> CALLBACKS = new CopyOnWriteArrayList<>();
+
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private ExtensionsChangeListener() {
+    }
+
+    /**
+     * Register a callback to invalidate some cache when extensions change.
+     */
+    public static void addCallback(@NonNull Runnable callback) {
+        CALLBACKS.add(callback);
+    }
+
+    /**
+     * @return a counter incremented on each extensions change, so callers can detect stale data.
+     */
+    public static long getGeneration() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Invalidate all registered caches.
+     */
+    public static void invalidate() {
+        GENERATION.incrementAndGet();
+        LOGGER.log(Level.FINE, "Extensions changed, invalidating {0} caches", CALLBACKS.size());
+        for (Runnable callback : CALLBACKS) {
+            callback.run();
+        }
+    }
+
+    @Override
+    public void onChange() {
+        invalidate();
+    }
+
+    @Initializer(after = InitMilestone.EXTENSIONS_AUGMENTED, before = InitMilestone.JOB_LOADED)
+    public static void install() {
+        // caches might have been populated for a previous Jenkins instance (i.e. when running tests)
+        invalidate();
+        ExtensionList.lookup(Descriptor.class).addListener(INSTANCE);
+        ExtensionList.lookup(Configurator.class).addListener(INSTANCE);
+        ExtensionList.lookup(RootElementConfigurator.class).addListener(INSTANCE);
+    }
+}
@@ -0,0 +1,106 @@
+package io.jenkins.plugins.casc.impl;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jenkins.model.Jenkins;
+import org.acegisecurity.Authentication;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Runs independent configuration tasks concurrently on a bounded number of threads.
+ * <p>
+ * Tasks run with the authentication of the calling thread. Failures are reported in the order tasks were given,
+ * whatever the order they actually ran in, so a failing configuration always reports the same error.
+ */
+@Restricted(NoExternalUse.class)
+public final class ParallelTasks {
+
+    @FunctionalInterface
+    public interface Task {
+        void run() throws ConfiguratorException;
+    }
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Run all tasks, and wait for them to complete.
+     *
+     * @param name        name of the threads running the tasks
+     * @param parallelism maximum number of tasks to run at once, tasks run on the calling thread if {@code 1} or less
+     * @throws ConfiguratorException failure of the first failed task, with failures of the following ones suppressed
+     */
+    public static void run(@NonNull String name, @NonNull List<? extends Task> tasks, int parallelism)
+        throws ConfiguratorException {
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            for (Task task : tasks) {
+                task.run();
+            }
+            return;
+        }
+
+        final Authentication authentication = Jenkins.getAuthentication();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()),
+                new NamingThreadFactory(new DaemonThreadFactory(), name));
+        final List<Future<?>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Task task : tasks) {
+                futures.add(executor.submit(() -> {
+                    try (ACLContext ignored = ACL.as(authentication)) {
+                        task.run();
+                    }
+                    return null;
+                }));
+            }
+        } finally {
+            // already submitted tasks still run to completion
+            executor.shutdown();
+        }
+
+        Throwable failure = null;
+        for (Future<?> future : futures) {
+            final Throwable t = failure(future);
+            if (t == null) continue;
+            if (failure == null) {
+                failure = t;
+            } else {
+                failure.addSuppressed(t);
+            }
+        }
+        if (failure instanceof ConfiguratorException) {
+            throw (ConfiguratorException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new ConfiguratorException(failure.getMessage(), failure);
+        }
+    }
+
+    private static Throwable failure(Future<?> future) throws ConfiguratorException {
+        try {
+            future.get();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfiguratorException("Interrupted while waiting for configuration tasks", e);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+}
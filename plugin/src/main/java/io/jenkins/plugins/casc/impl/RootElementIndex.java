@@ -0,0 +1,116 @@
+package io.jenkins.plugins.casc.impl;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Descriptor;
+import hudson.model.ManagementLink;
+import io.jenkins.plugins.casc.RootElementConfigurator;
+import io.jenkins.plugins.casc.impl.configurators.DescriptorConfigurator;
+import io.jenkins.plugins.casc.impl.configurators.GlobalConfigurationCategoryConfigurator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jenkins.model.GlobalConfigurationCategory;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Ordered list of all {@link RootElementConfigurator}s, indexed by name.
+ * <p>
+ * Built on first use, so finding the configurator of a root element doesn't go through all extensions again.
+ *
+ * @see RootElementConfigurator#all()
+ * @see ExtensionsChangeListener
+ */
+@Restricted(NoExternalUse.class)
+public final class RootElementIndex {
+
+    private static volatile RootElementIndex current;
+
+    static {
+        ExtensionsChangeListener.addCallback(() -> current = null);
+    }
+
+    private final Jenkins jenkins;
+
+    private final List<RootElementConfigurator> configurators;
+
+    /**
+     * Position in {@link #configurators} by lower-case name, including all names a configurator accepts.
+     */
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    private RootElementIndex(Jenkins jenkins) {
+        this.jenkins = jenkins;
+
+        List<RootElementConfigurator> configurators = new ArrayList<>(
+            jenkins.getExtensionList(RootElementConfigurator.class));
+
+        for (GlobalConfigurationCategory category : GlobalConfigurationCategory.all()) {
+            configurators.add(new GlobalConfigurationCategoryConfigurator(category));
+        }
+
+        for (ManagementLink link : ManagementLink.all()) {
+            final String name = link.getUrlName();
+            final Descriptor descriptor = jenkins.getDescriptor(name);
+            if (descriptor != null)
+                configurators.add(new DescriptorConfigurator(descriptor));
+        }
+
+        this.configurators = Collections.unmodifiableList(configurators);
+
+        // first one wins, so configurators order is respected on conflicting names,
+        // and preferred names take precedence over aliases
+        for (int i = 0; i < configurators.size(); i++) {
+            positions.putIfAbsent(key(configurators.get(i).getName()), i);
+        }
+        for (int i = 0; i < configurators.size(); i++) {
+            final RootElementConfigurator<?> c = configurators.get(i);
+            for (String name : c.getNames()) {
+                positions.putIfAbsent(key(name), i);
+            }
+        }
+    }
+
+    @NonNull
+    public static RootElementIndex get() {
+        final Jenkins jenkins = Jenkins.get();
+        RootElementIndex index = current;
+        if (index == null || index.jenkins != jenkins) {
+            index = new RootElementIndex(jenkins);
+            current = index;
+        }
+        return index;
+    }
+
+    /**
+     * @return all root element configurators, in the order they have to be run
+     */
+    @NonNull
+    public List<RootElementConfigurator> all() {
+        return configurators;
+    }
+
+    /**
+     * @return position in {@link #all()} of the configurator handling root element {@code name} (case insensitive),
+     *         or {@code -1} if there's none.
+     */
+    public int indexOf(@NonNull String name) {
+        final Integer position = positions.get(key(name));
+        return position != null ? position : -1;
+    }
+
+    @CheckForNull
+    public RootElementConfigurator lookup(@NonNull String name) {
+        final int i = indexOf(name);
+        return i < 0 ? null : configurators.get(i);
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+}
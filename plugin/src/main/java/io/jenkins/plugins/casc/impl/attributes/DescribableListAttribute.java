@@ -1,6 +1,7 @@
 package io.jenkins.plugins.casc.impl.attributes;
 
 import hudson.util.PersistedList;
+import io.jenkins.plugins.casc.ConfigurationContext;
 import java.util.Collection;
 
 /**
@@ -15,7 +16,12 @@ public class DescribableListAttribute<Owner, Type> extends DescribableAttribute<
 
     @Override
     public void setValue(Owner target, Collection<Type> o) throws Exception {
-        getValue(target).replaceBy(o);
+        ListReconciliation.apply(getValue(target), o, null);
+    }
+
+    @Override
+    public void setValue(Owner target, Collection<Type> o, ConfigurationContext context) throws Exception {
+        ListReconciliation.apply(getValue(target), o, context);
     }
 
     @Override
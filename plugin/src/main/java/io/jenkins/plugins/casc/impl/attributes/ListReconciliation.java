@@ -0,0 +1,115 @@
+package io.jenkins.plugins.casc.impl.attributes;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.util.PersistedList;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import io.jenkins.plugins.casc.impl.ExportedConfiguration;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Updates a {@link PersistedList} with configured elements, only modifying it if configuration differs from the live
+ * elements.
+ * <p>
+ * Elements are compared by their exported configuration, and elements which can't be fully exported never match. Live
+ * elements matching a configured one are kept, so a list is neither persisted nor are listeners notified when it
+ * didn't change. Each modification of a list persists its owner, so appended elements are added and a single removed
+ * element is removed, unless an equal element precedes it. Inserted, moved or several removed elements are handled by
+ * replacing the list content at once with both kept and new elements.
+ */
+final class ListReconciliation {
+
+    private static final Logger LOGGER = Logger.getLogger(ListReconciliation.class.getName());
+
+    /**
+     * Set to {@code true} to reconcile lists with configuration, rather than always replacing their content.
+     */
+    static /* non-final for script console */ boolean ENABLED = Boolean.getBoolean(ConfigurationAsCode.class.getName() + ".reconcileLists");
+
+    private ListReconciliation() {
+    }
+
+    /**
+     * @param context context of the configuration being applied, if any
+     */
+    static <T> void apply(PersistedList<T> live, Collection<T> configured, @CheckForNull ConfigurationContext context) throws IOException {
+        if (ENABLED) {
+            reconcile(live, configured, context != null ? context : new ConfigurationContext(ConfiguratorRegistry.get()));
+        } else {
+            live.replaceBy(configured);
+        }
+    }
+
+    static <T> void reconcile(PersistedList<T> live, Collection<T> configured, ConfigurationContext context) throws IOException {
+        final List<T> current = live.toList();
+        final Map<String, Deque<Integer>> index = new HashMap<>();
+        for (int i = 0; i < current.size(); i++) {
+            final String key = ExportedConfiguration.key(current.get(i), context);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayDeque<>()).add(i);
+            }
+        }
+
+        // configured elements, replaced by the matching live element if any
+        final List<T> reconciled = new ArrayList<>(configured.size());
+        final boolean[] kept = new boolean[current.size()];
+        final List<T> added = new ArrayList<>();
+        // whether live elements are kept in the same order, with new elements only added after them
+        boolean appended = true;
+        int previous = -1;
+        for (T element : configured) {
+            final String key = ExportedConfiguration.key(element, context);
+            final Deque<Integer> matches = key != null ? index.get(key) : null;
+            final Integer match = matches != null ? matches.poll() : null;
+            if (match != null) {
+                appended &= added.isEmpty() && match > previous;
+                previous = match;
+                kept[match] = true;
+                reconciled.add(current.get(match));
+            } else {
+                added.add(element);
+                reconciled.add(element);
+            }
+        }
+
+        // positions of live elements which aren't configured anymore
+        final List<Integer> removed = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            if (!kept[i]) {
+                removed.add(i);
+            }
+        }
+
+        if (appended && removed.isEmpty()) {
+            if (added.isEmpty()) {
+                LOGGER.log(Level.FINE, "{0} elements are unchanged", current.size());
+            } else {
+                LOGGER.log(Level.FINE, "Adding {0} elements", added.size());
+                live.addAll(added);
+            }
+            return;
+        }
+        if (appended && added.isEmpty() && removed.size() == 1) {
+            final T element = current.get(removed.get(0));
+            // PersistedList removes the first element equal to the given one, which may be another one
+            if (current.indexOf(element) == removed.get(0)) {
+                LOGGER.log(Level.FINE, "Removing 1 element");
+                live.remove(element);
+                return;
+            }
+        }
+        LOGGER.log(Level.FINE, "Replacing {0} elements by {1}, {2} being new",
+            new Object[]{current.size(), reconciled.size(), added.size()});
+        live.replaceBy(reconciled);
+    }
+}
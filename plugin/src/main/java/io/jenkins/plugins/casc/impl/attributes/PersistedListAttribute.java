@@ -2,6 +2,7 @@ package io.jenkins.plugins.casc.impl.attributes;
 
 import hudson.util.PersistedList;
 import io.jenkins.plugins.casc.Attribute;
+import io.jenkins.plugins.casc.ConfigurationContext;
 import java.util.Collection;
 
 /**
@@ -17,7 +18,12 @@ public class PersistedListAttribute<Owner, Type> extends Attribute<Owner, Collec
 
     @Override
     public void setValue(Owner target, Collection<Type> o) throws Exception {
-        getValue(target).replaceBy(o);
+        ListReconciliation.apply(getValue(target), o, null);
+    }
+
+    @Override
+    public void setValue(Owner target, Collection<Type> o, ConfigurationContext context) throws Exception {
+        ListReconciliation.apply(getValue(target), o, context);
     }
 
     @Override
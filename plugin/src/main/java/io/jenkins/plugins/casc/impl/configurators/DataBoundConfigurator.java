@@ -6,8 +6,10 @@ import hudson.util.Secret;
 import io.jenkins.plugins.casc.Attribute;
 import io.jenkins.plugins.casc.BaseConfigurator;
 import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfigurationPlan;
 import io.jenkins.plugins.casc.Configurator;
 import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
 import io.jenkins.plugins.casc.impl.attributes.DescribableAttribute;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
@@ -50,6 +52,8 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
 
     private final Class<T> target;
 
+    private volatile Binding<T> binding;
+
     public DataBoundConfigurator(Class<T> clazz) {
         this.target = clazz;
     }
@@ -73,99 +77,126 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
      */
     @Override
     protected T instance(Mapping config, ConfigurationContext context) throws ConfiguratorException {
-        final Constructor dataBoundConstructor = getDataBoundConstructor();
-        return tryConstructor((Constructor<T>) dataBoundConstructor, config, context);
+        return tryConstructor(getBinding(), config, context);
     }
 
     @NonNull
     @Override
     public T configure(CNode c, ConfigurationContext context) throws ConfiguratorException {
-        T object = super.configure(c, context);
-
-        for (Method method : target.getMethods()) {
-            if (method.getParameterCount() == 0 && method.getAnnotation(PostConstruct.class) != null) {
-                try {
-                    method.invoke(object, null);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new ConfiguratorException(this, "Failed to invoke configurator method " + method, e);
-                }
-            }
+        final ConfigurationPlan recording = isRecordable(c) ? context.getRecordingPlan() : null;
+        if (recording != null) {
+            return recording.record(c, true, () -> postConstruct(super.configure(c, context)));
         }
-        return object;
+
+        final ConfigurationPlan replaying = isRecordable(c) ? context.getReplayingPlan() : null;
+        final ConfigurationPlan.Step step = replaying != null ? replaying.take(c, context) : null;
+        if (step != null && target.isInstance(step.getInstance())) {
+            LOGGER.log(Level.FINER, "Reusing {0} built while checking configuration", target);
+            final T object = target.cast(step.getInstance());
+            return step.isInitialized() ? object : postConstruct(object);
+        }
+
+        return postConstruct(super.configure(c, context));
     }
 
     @Override
     public T check(CNode config, ConfigurationContext context) throws ConfiguratorException {
         // As DataBound objects are replaced in jenkins model we can build one from configuration without side-effects
         // BUT we don't invoke @PostConstruct methods which might un some post-build registration into jenkins APIs.
+        final ConfigurationPlan recording = isRecordable(config) ? context.getRecordingPlan() : null;
+        if (recording != null) {
+            return recording.record(config, false, () -> super.configure(config, context));
+        }
         return super.configure(config, context);
     }
 
-    private T tryConstructor(Constructor<T> constructor, Mapping config, ConfigurationContext context) throws ConfiguratorException {
-        final Parameter[] parameters = constructor.getParameters();
-        final String[] names = ClassDescriptor.loadParameterNames(constructor);
-        Object[] args = new Object[names.length];
+    /**
+     * Components are only recorded to be reused by this generic configurator, as specialized ones might have side
+     * effects.
+     */
+    private boolean isRecordable(@CheckForNull CNode config) {
+        return config != null && getClass() == DataBoundConfigurator.class;
+    }
 
-        if (parameters.length > 0) {
-            // Many jenkins components haven't been migrated to @DataBoundSetter vs @NotNull constructor parameters
-            // as a result it might be valid to reference a describable without parameters
+    private T postConstruct(T object) throws ConfiguratorException {
+        for (Method method : getBinding().postConstruct) {
+            try {
+                method.invoke(object, null);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ConfiguratorException(this, "Failed to invoke configurator method " + method, e);
+            }
+        }
+        return object;
+    }
 
-            for (int i = 0; i < names.length; i++) {
-                final CNode value = config.get(names[i]);
-                final Class t = parameters[i].getType();
+    /**
+     * @return binding plan for {@link #target}, kept as long as the set of extensions doesn't change
+     */
+    private Binding<T> getBinding() throws ConfiguratorException {
+        Binding<T> b = binding;
+        final long generation = ExtensionsChangeListener.getGeneration();
+        if (b == null || b.generation != generation) {
+            b = new Binding<>((Constructor<T>) getDataBoundConstructor(), generation);
+            binding = b;
+        }
+        return b;
+    }
+
+    private T tryConstructor(Binding<T> binding, Mapping config, ConfigurationContext context) throws ConfiguratorException {
+        final Constructor<T> constructor = binding.constructor;
+        final ParameterBinding[] parameters = binding.parameters;
+        Object[] args = new Object[parameters.length];
 
-                Class<?> clazz = constructor.getDeclaringClass();
-                if (value == null && (parameters[i].isAnnotationPresent(Nonnull.class)   ||
-                    constructor.isAnnotationPresent(ParametersAreNonnullByDefault.class) ||
-                    clazz.isAnnotationPresent(ParametersAreNonnullByDefault.class)       ||
-                    clazz.getPackage().isAnnotationPresent(ParametersAreNonnullByDefault.class) &&
-                        !parameters[i].isAnnotationPresent(CheckForNull.class))) {
+        // Many jenkins components haven't been migrated to @DataBoundSetter vs @NotNull constructor parameters
+        // as a result it might be valid to reference a describable without parameters
 
-                    if (Set.class.isAssignableFrom(t)) {
+        for (int i = 0; i < parameters.length; i++) {
+            final ParameterBinding p = parameters[i];
+            final CNode value = config.get(p.name);
+
+            if (value == null && p.required) {
+                switch (p.kind) {
+                    case SET:
                         LOGGER.log(Level.FINER, "The parameter to be set is @Nonnull but is not present; " +
                                                            "setting equal to empty set.");
                         args[i] = Collections.emptySet();
-                    } else if (List.class.isAssignableFrom(t)) {
+                        break;
+                    case LIST:
                         LOGGER.log(Level.FINER, "The parameter to be set is @Nonnull but is not present; " +
                                                            "setting equal to empty list.");
                         args[i] = Collections.emptyList();
-                    } else {
-                        throw new ConfiguratorException(names[i] + " is required to configure " + target);
-                    }
-                    continue;
+                        break;
+                    default:
+                        throw new ConfiguratorException(p.name + " is required to configure " + target);
                 }
+                continue;
+            }
 
-                if (value != null) {
-                    if (Collection.class.isAssignableFrom(t)) {
-                        final Type pt = parameters[i].getParameterizedType();
-                        final Configurator lookup = context.lookupOrFail(pt);
-
-                        final Collection<Object> collection;
-
-                        if (Set.class.isAssignableFrom(t)) {
-                            collection = new HashSet<>();
-                        } else {
-                            collection = new ArrayList<>();
-                        }
-
-                        for (CNode o : value.asSequence()) {
-                            collection.add(lookup.configure(o, context));
-                        }
-                        args[i] = collection;
+            if (value != null) {
+                final Configurator configurator = p.getConfigurator(context);
+                if (p.kind != CollectionKind.NONE) {
+                    final Collection<Object> collection;
 
+                    if (p.kind == CollectionKind.SET) {
+                        collection = new HashSet<>();
                     } else {
-                        final Type pt = parameters[i].getParameterizedType();
-                        final Type k = pt != null ? pt : t;
-                        final Configurator configurator = context.lookupOrFail(k);
-                        args[i] = configurator.configure(value, context);
+                        collection = new ArrayList<>();
                     }
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.log(Level.FINE, "Setting {0}.{1} = {2}",
-                                new Object[]{target, names[i], t == Secret.class || Attribute.calculateIfSecret(target, names[i]) ? "****" : value});
+
+                    for (CNode o : value.asSequence()) {
+                        collection.add(configurator.configure(o, context));
                     }
-                } else if (t.isPrimitive()) {
-                    args[i] = defaultValue(t);
+                    args[i] = collection;
+
+                } else {
+                    args[i] = configurator.configure(value, context);
                 }
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, "Setting {0}.{1} = {2}",
+                            new Object[]{target, p.name, p.type == Secret.class || Attribute.calculateIfSecret(target, p.name) ? "****" : value});
+                }
+            } else if (p.type.isPrimitive()) {
+                args[i] = defaultValue(p.type);
             }
         }
 
@@ -177,13 +208,9 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
             for (Object arg : args) {
                 argumentTypes.add(arg != null ? arg.getClass().getName() : "null");
             }
-            List<String> parameterTypes = new ArrayList<>(parameters.length);
-            for (Parameter parameter: parameters){
-                parameterTypes.add(parameter.getParameterizedType().getTypeName());
-            }
             List<String> expectedParamList = new ArrayList<>(parameters.length);
-            for(int i = 0; i < parameters.length; i++){
-                expectedParamList.add(names[i] + " " + parameterTypes.get(i));
+            for (ParameterBinding p : parameters) {
+                expectedParamList.add(p.name + " " + p.parameterizedType.getTypeName());
             }
             throw new ConfiguratorException(this,
                     "Failed to construct instance of " + target +
@@ -194,8 +221,8 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         }
 
         // constructor was successful, so let's removed configuration elements we have consumed doing so.
-        for (String name : names) {
-            config.remove(name);
+        for (ParameterBinding p : parameters) {
+            config.remove(p.name);
         }
 
         return object;
@@ -337,4 +364,92 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         final Descriptor descriptor = getDescriptor();
         return descriptor != null ? descriptor.getDisplayName() : getName();
     }
+
+    private enum CollectionKind {
+        NONE, SET, LIST, OTHER;
+
+        static CollectionKind of(Class<?> type) {
+            if (Set.class.isAssignableFrom(type)) return SET;
+            if (List.class.isAssignableFrom(type)) return LIST;
+            if (Collection.class.isAssignableFrom(type)) return OTHER;
+            return NONE;
+        }
+    }
+
+    /**
+     * How configuration binds to a {@link DataBoundConstructor} and {@link PostConstruct} methods. Introspection is
+     * done once per target, so building many instances from a large list doesn't pay for it again.
+     */
+    private static final class Binding<T> {
+
+        final long generation;
+
+        final Constructor<T> constructor;
+
+        final ParameterBinding[] parameters;
+
+        final List<Method> postConstruct = new ArrayList<>();
+
+        Binding(Constructor<T> constructor, long generation) {
+            this.generation = generation;
+            this.constructor = constructor;
+
+            final Parameter[] params = constructor.getParameters();
+            final String[] names = ClassDescriptor.loadParameterNames(constructor);
+            final Class<?> clazz = constructor.getDeclaringClass();
+            final Package pkg = clazz.getPackage();
+            final boolean nonnullByDefault = constructor.isAnnotationPresent(ParametersAreNonnullByDefault.class) ||
+                clazz.isAnnotationPresent(ParametersAreNonnullByDefault.class);
+            final boolean packageNonnullByDefault = pkg != null && pkg.isAnnotationPresent(ParametersAreNonnullByDefault.class);
+
+            this.parameters = new ParameterBinding[names.length];
+            for (int i = 0; i < names.length; i++) {
+                final Parameter p = params[i];
+                final boolean required = p.isAnnotationPresent(Nonnull.class) || nonnullByDefault ||
+                    packageNonnullByDefault && !p.isAnnotationPresent(CheckForNull.class);
+                parameters[i] = new ParameterBinding(names[i], p, required);
+            }
+
+            for (Method method : clazz.getMethods()) {
+                if (method.getParameterCount() == 0 && method.getAnnotation(PostConstruct.class) != null) {
+                    postConstruct.add(method);
+                }
+            }
+        }
+    }
+
+    private static final class ParameterBinding {
+
+        final String name;
+
+        final Class<?> type;
+
+        final Type parameterizedType;
+
+        final boolean required;
+
+        final CollectionKind kind;
+
+        /**
+         * Resolved on first use, as a configurator is only required when a value is provided.
+         */
+        private volatile Configurator configurator;
+
+        ParameterBinding(String name, Parameter parameter, boolean required) {
+            this.name = name;
+            this.type = parameter.getType();
+            this.parameterizedType = parameter.getParameterizedType();
+            this.required = required;
+            this.kind = CollectionKind.of(type);
+        }
+
+        Configurator getConfigurator(ConfigurationContext context) throws ConfiguratorException {
+            Configurator c = configurator;
+            if (c == null) {
+                c = context.lookupOrFail(parameterizedType != null ? parameterizedType : type);
+                configurator = c;
+            }
+            return c;
+        }
+    }
 }
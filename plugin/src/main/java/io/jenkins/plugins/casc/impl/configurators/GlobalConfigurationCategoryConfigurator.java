@@ -2,17 +2,29 @@ package io.jenkins.plugins.casc.impl.configurators;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.PluginManager;
+import hudson.PluginWrapper;
 import hudson.model.Descriptor;
 import io.jenkins.plugins.casc.Attribute;
 import io.jenkins.plugins.casc.BaseConfigurator;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.ConfiguratorException;
 import io.jenkins.plugins.casc.RootElementConfigurator;
+import io.jenkins.plugins.casc.impl.ParallelTasks;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import jenkins.model.GlobalConfigurationCategory;
@@ -36,6 +48,12 @@ public class GlobalConfigurationCategoryConfigurator extends BaseConfigurator<Gl
     private static final Logger LOGGER = Logger.getLogger(GlobalConfigurationCategoryConfigurator.class.getName());
     private static final String CREDENTIALS_PROVIDER_MANAGER_CONFIGURATION = "com.cloudbees.plugins.credentials.CredentialsProviderManager$Configuration";
 
+    /**
+     * Maximum number of descriptors of a category to configure at once. Descriptors are configured one by one by
+     * default.
+     */
+    static /* non-final for script console */ int PARALLELISM = Integer.getInteger(ConfigurationAsCode.class.getName() + ".parallelApply", 1);
+
     private final GlobalConfigurationCategory category;
 
     public GlobalConfigurationCategoryConfigurator(GlobalConfigurationCategory category) {
@@ -77,6 +95,161 @@ public class GlobalConfigurationCategoryConfigurator extends BaseConfigurator<Gl
         return category;
     }
 
+    /**
+     * A descriptor may read the configuration of descriptors from core, or from plugins its plugin depends on, but
+     * doesn't know about other ones. So descriptors from core are configured first, then descriptors are grouped by
+     * plugins which depend on each other, directly or not, optional dependencies included. Groups are configured
+     * concurrently, descriptors of a group one by one, those of dependencies first.
+     */
+    @Override
+    protected void configure(Mapping config, GlobalConfigurationCategory instance, boolean dryrun, ConfigurationContext context) throws ConfiguratorException {
+        final int parallelism = PARALLELISM;
+        if (dryrun || parallelism <= 1) {
+            super.configure(config, instance, dryrun, context);
+            return;
+        }
+
+        final PluginManager pluginManager = Jenkins.get().getPluginManager();
+        configure(config, context, parallelism, type -> {
+            final PluginWrapper plugin = pluginManager.whichPlugin(type);
+            return plugin != null ? plugin.getShortName() : null;
+        }, plugin -> declaredDependencies(pluginManager.getPlugin(plugin)));
+    }
+
+    /**
+     * @param pluginOf     short name of the plugin providing a descriptor type, or {@code null} if it comes from core
+     * @param declared     dependencies an installed plugin declares, optional ones included, or {@code null} if the
+     *                     plugin isn't installed
+     */
+    void configure(Mapping config, ConfigurationContext context, int parallelism, Function<Class<?>, String> pluginOf,
+                   Function<String, List<PluginWrapper.Dependency>> declared) throws ConfiguratorException {
+        // sorted by name so failures are reported the same way whatever the order descriptors ran in
+        final List<Attribute<GlobalConfigurationCategory, ?>> attributes = new ArrayList<>(describe());
+        attributes.sort(Comparator.comparing(Attribute::getName));
+        final Map<String, Set<String>> dependencies = new HashMap<>();
+        final List<Step> core = new ArrayList<>();
+        final Map<String, List<Step>> plugins = new LinkedHashMap<>();
+        for (Attribute<GlobalConfigurationCategory, ?> attribute : attributes) {
+            final CNode sub = removeAttribute(config, attribute, context);
+            if (sub == null) continue;
+            checkUsage(config, attribute, context);
+            final Configurator<?> configurator = context.lookupOrFail(attribute.getType());
+            final String plugin = pluginOf.apply(attribute.getType());
+            if (plugin == null) {
+                core.add(new Step(configurator, sub, 0));
+            } else {
+                final int count = dependencies(plugin, declared, dependencies).size();
+                plugins.computeIfAbsent(plugin, k -> new ArrayList<>()).add(new Step(configurator, sub, count));
+            }
+        }
+
+        for (Step step : core) {
+            step.configurator.configure(step.config, context);
+        }
+
+        final List<ParallelTasks.Task> tasks = new ArrayList<>();
+        for (List<Step> group : group(plugins, dependencies)) {
+            // a plugin has more dependencies than any plugin it depends on
+            group.sort(Comparator.comparingInt(step -> step.dependencies));
+            tasks.add(() -> {
+                for (Step step : group) {
+                    step.configurator.configure(step.config, context);
+                }
+            });
+        }
+        ParallelTasks.run("Configuration-as-Code " + getName(), tasks, parallelism);
+
+        handleUnknown(config, context);
+    }
+
+    /**
+     * @return dependencies declared by a plugin, optional ones included, or {@code null} if it isn't installed
+     */
+    @CheckForNull
+    private static List<PluginWrapper.Dependency> declaredDependencies(@CheckForNull PluginWrapper plugin) {
+        if (plugin == null) {
+            return null;
+        }
+        final List<PluginWrapper.Dependency> dependencies = new ArrayList<>(plugin.getDependencies());
+        // an installed optional dependency may be configured, and read, as any other
+        dependencies.addAll(plugin.getOptionalDependencies());
+        return dependencies;
+    }
+
+    /**
+     * @param declared dependencies an installed plugin declares, or {@code null} if the plugin isn't installed
+     * @return short names of the installed plugins a plugin depends on, directly or not
+     */
+    static Set<String> dependencies(String plugin, Function<String, List<PluginWrapper.Dependency>> declared,
+                                    Map<String, Set<String>> cache) {
+        Set<String> dependencies = cache.get(plugin);
+        if (dependencies != null) {
+            return dependencies;
+        }
+        dependencies = new HashSet<>();
+        cache.put(plugin, dependencies);
+        final List<PluginWrapper.Dependency> direct = declared.apply(plugin);
+        if (direct != null) {
+            for (PluginWrapper.Dependency dependency : direct) {
+                if (declared.apply(dependency.shortName) != null) {
+                    dependencies.add(dependency.shortName);
+                    dependencies.addAll(dependencies(dependency.shortName, declared, cache));
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * @param plugins      items of each plugin
+     * @param dependencies plugins each plugin depends on, directly or not
+     * @return items of plugins which depend on each other grouped together, groups being in the order of their first
+     *         plugin
+     */
+    static <I> List<List<I>> group(Map<String, List<I>> plugins, Map<String, Set<String>> dependencies) {
+        final Map<String, String> parents = new HashMap<>();
+        for (String plugin : plugins.keySet()) {
+            parents.put(plugin, plugin);
+        }
+        for (String plugin : plugins.keySet()) {
+            for (String other : plugins.keySet()) {
+                if (dependencies.get(plugin).contains(other)) {
+                    parents.put(root(plugin, parents), root(other, parents));
+                }
+            }
+        }
+        final Map<String, List<I>> groups = new LinkedHashMap<>();
+        plugins.forEach((plugin, items) -> groups.computeIfAbsent(root(plugin, parents), k -> new ArrayList<>()).addAll(items));
+        return new ArrayList<>(groups.values());
+    }
+
+    private static String root(String plugin, Map<String, String> parents) {
+        String parent = parents.get(plugin);
+        while (!parent.equals(plugin)) {
+            plugin = parent;
+            parent = parents.get(plugin);
+        }
+        return plugin;
+    }
+
+    private static final class Step {
+
+        final Configurator<?> configurator;
+
+        final CNode config;
+
+        /**
+         * Number of plugins the plugin of the descriptor depends on.
+         */
+        final int dependencies;
+
+        Step(Configurator<?> configurator, CNode config, int dependencies) {
+            this.configurator = configurator;
+            this.config = config;
+            this.dependencies = dependencies;
+        }
+    }
+
     @SuppressWarnings("RedundantCast") // TODO remove once we are on JDK 11
     @NonNull
     @Override
@@ -109,6 +282,19 @@ public class GlobalConfigurationCategoryConfigurator extends BaseConfigurator<Gl
         return mapping;
     }
 
+    @CheckForNull
+    @Override
+    public CNode describeAttribute(GlobalConfigurationCategory instance, String name, ConfigurationContext context)
+        throws ConfiguratorException {
+        final Attribute<GlobalConfigurationCategory, ?> attribute = lookupAttribute(name);
+        final Mapping mapping = new Mapping();
+        Jenkins.get().getExtensionList(Descriptor.class).stream()
+            .filter(this::filterDescriptors)
+            .filter(d -> new DescriptorConfigurator(d).getName().equals(attribute.getName()))
+            .forEach(d -> describe(d, mapping, context));
+        return mapping.get(attribute.getName());
+    }
+
     private void describe(Descriptor d, Mapping mapping, ConfigurationContext context) {
         final DescriptorConfigurator c = new DescriptorConfigurator(d);
         try {
@@ -11,19 +11,22 @@ import io.jenkins.plugins.casc.Attribute;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.Configurator;
 import io.jenkins.plugins.casc.ObsoleteConfigurationMonitor;
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
 import io.jenkins.plugins.casc.impl.attributes.DescribableAttribute;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
-import io.vavr.collection.HashMap;
 import io.vavr.collection.Stream;
 import io.vavr.control.Option;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -59,6 +62,8 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
 
     private final Class<T> target;
 
+    private volatile SymbolIndex<T> index;
+
     public HeteroDescribableConfigurator(Class<T> clazz) {
         this.target = clazz;
     }
@@ -71,7 +76,7 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
     @NonNull
     @Override
     public List<Configurator<T>> getConfigurators(ConfigurationContext context) {
-        return getDescriptors()
+        return Stream.ofAll(getIndex().descriptors)
             .flatMap(d -> lookupConfigurator(context, descriptorClass(d)))
             .append(this)
             .toJavaList();
@@ -119,11 +124,9 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
 
     @SuppressWarnings("unused")
     public Map<String, Class<T>> getImplementors() {
-        return getDescriptors()
-                .map(descriptor -> Tuple.of(preferredSymbol(descriptor), descriptor))
-                .foldLeft(HashMap.empty(), this::handleDuplicateSymbols)
-                .mapValues(this::descriptorClass)
-                .toJavaMap();
+        final Map<String, Class<T>> implementors = new HashMap<>();
+        getIndex().implementors.forEach((symbol, descriptor) -> implementors.put(symbol, descriptorClass(descriptor)));
+        return implementors;
     }
 
     private Option<Configurator<T>> lookupConfigurator(ConfigurationContext context, Class<?> descriptor) {
@@ -201,48 +204,54 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
     }
 
     private Option<Descriptor<T>> lookupDescriptor(String symbol, CNode config) {
-        return getDescriptors()
-                .filter(descriptor -> findByPreferredSymbol(descriptor, symbol) || findBySymbols(descriptor, symbol, config))
-                .map(descriptor -> Tuple.of(preferredSymbol(descriptor), descriptor))
-                .foldLeft(HashMap.empty(), this::handleDuplicateSymbols)
-                .values()
-                .headOption()
-                .orElse(() -> {
-                    throw new IllegalArgumentException("No " + target.getName() + " implementation found for " + symbol);
-                });
-    }
-
-    private Boolean findByPreferredSymbol(Descriptor<T> descriptor, String symbol) {
-        return preferredSymbol(descriptor).equalsIgnoreCase(symbol);
-    }
-
-    private Boolean findBySymbols(Descriptor<T> descriptor, String symbol, CNode node) {
-        return getSymbols(descriptor)
-                .find(actual -> actual.equalsIgnoreCase(symbol))
-                .map(actual -> {
-                    ObsoleteConfigurationMonitor.get().record(node, "'" + symbol + "' is obsolete, please use '" + preferredSymbol(descriptor) + "'");
-                    return descriptorClass(descriptor);
-                }).isDefined();
+        final SymbolIndex<T> index = getIndex();
+        final String key = symbol.toLowerCase(Locale.ENGLISH);
+        Descriptor<T> descriptor = index.preferred.get(key);
+        if (descriptor == null) {
+            descriptor = index.legacy.get(key);
+            if (descriptor == null) {
+                throw new IllegalArgumentException("No " + target.getName() + " implementation found for " + symbol);
+            }
+            ObsoleteConfigurationMonitor.get().record(config, "'" + symbol + "' is obsolete, please use '" + preferredSymbol(descriptor) + "'");
+        }
+        return Option.of(descriptor);
     }
 
-    private Stream<String> getSymbols(Descriptor<T> descriptor) {
-        return Stream.ofAll(DescribableAttribute.getSymbols(descriptor, target, target));
+    /**
+     * Gets the symbol index for {@link #target}, computing it on first use or after extensions have changed.
+     */
+    private SymbolIndex<T> getIndex() {
+        SymbolIndex<T> i = index;
+        final long generation = ExtensionsChangeListener.getGeneration();
+        if (i == null || i.generation != generation) {
+            i = new SymbolIndex<>(generation, getDescriptors().toJavaList());
+            for (Descriptor<T> descriptor : i.descriptors) {
+                final String symbol = preferredSymbol(descriptor);
+                final Descriptor<T> existing = i.implementors.putIfAbsent(symbol, descriptor);
+                if (existing != null) {
+                    LOGGER.warning(String.format("Found multiple implementations for symbol = %s: [%s, %s]. Please report to plugin maintainer.", symbol, existing, descriptor));
+                } else {
+                    i.preferred.putIfAbsent(symbol.toLowerCase(Locale.ENGLISH), descriptor);
+                }
+            }
+            // legacy symbols only apply when no implementation has them as preferred one
+            for (Descriptor<T> descriptor : i.descriptors) {
+                for (String symbol : DescribableAttribute.getSymbols(descriptor, target, target)) {
+                    final String key = symbol.toLowerCase(Locale.ENGLISH);
+                    if (!i.preferred.containsKey(key)) {
+                        i.legacy.putIfAbsent(key, descriptor);
+                    }
+                }
+            }
+            index = i;
+        }
+        return i;
     }
 
     private String preferredSymbol(Descriptor<?> descriptor) {
         return DescribableAttribute.getPreferredSymbol(descriptor, target, target);
     }
 
-    private HashMap<String, Descriptor<T>> handleDuplicateSymbols(HashMap<String, Descriptor<T>> r, Tuple2<String, Descriptor<T>> t) {
-        if (r.containsKey(t._1)) {
-            String message = String.format("Found multiple implementations for symbol = %s: [%s, %s]. Please report to plugin maintainer.", t._1, r.get(t._1).get(), t._2);
-            LOGGER.warning(message);
-            return r;
-        } else {
-            return r.put(t);
-        }
-    }
-
     private Tuple2<String, Option<CNode>> preConfigure(CNode config) {
         switch (config.getType()) {
             case SCALAR:
@@ -281,4 +290,35 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
     private CNode convertToNode(ConfigurationContext context, Configurator configurator, Describable instance) {
         return unchecked(() -> configurator.describe(instance, context)).apply();
     }
+
+    /**
+     * Descriptors for a target type, indexed by symbol, so resolving the implementation for a configuration node
+     * doesn't require to introspect all descriptors again.
+     */
+    private static final class SymbolIndex<T extends Describable<T>> {
+
+        final long generation;
+
+        final List<Descriptor<T>> descriptors;
+
+        /**
+         * Descriptors by preferred symbol, first one wins on duplicates.
+         */
+        final Map<String, Descriptor<T>> implementors = new LinkedHashMap<>();
+
+        /**
+         * Descriptors by lower-case preferred symbol.
+         */
+        final Map<String, Descriptor<T>> preferred = new HashMap<>();
+
+        /**
+         * Descriptors by lower-case legacy symbol.
+         */
+        final Map<String, Descriptor<T>> legacy = new HashMap<>();
+
+        SymbolIndex(long generation, List<Descriptor<T>> descriptors) {
+            this.generation = generation;
+            this.descriptors = descriptors;
+        }
+    }
 }
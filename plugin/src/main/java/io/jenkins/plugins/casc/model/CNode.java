@@ -36,5 +36,14 @@ public interface CNode extends Cloneable {
      */
     Source getSource();
 
+    /**
+     * Structural digest of this node, computed from its content and the content of its children, ignoring
+     * {@link #getSource()}. Nodes with the same digest have the same content.
+     * Digests are computed lazily, and cached until this node or one of its children is modified.
+     *
+     * @see Diff
+     */
+    String digest();
+
     CNode clone();
 }
@@ -0,0 +1,94 @@
+package io.jenkins.plugins.casc.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Records modifications made to a configuration model, so it can be restored to its original content.
+ * <p>
+ * Configurators consume the model they're given. A checkpoint lets the same model be checked then applied, without
+ * a deep copy: a shallow copy of a {@link Mapping} or {@link Sequence} is only taken the first time it gets modified,
+ * and scalars are shared as they're not modified while configuring.
+ * <p>
+ * Modifications made to a {@link Mapping} through its {@code keySet()}, {@code values()} or {@code entrySet()} views
+ * are not recorded.
+ */
+@Restricted(NoExternalUse.class)
+public final class Checkpoint implements AutoCloseable {
+
+    private final List<CNode> attached = new ArrayList<>();
+
+    private final Map<Mapping, Map<String, CNode>> mappings = new IdentityHashMap<>();
+
+    private final Map<Sequence, List<CNode>> sequences = new IdentityHashMap<>();
+
+    private boolean closed;
+
+    private Checkpoint() {
+    }
+
+    /**
+     * Start recording modifications made to {@code root} and all its descendants.
+     */
+    public static Checkpoint of(@CheckForNull CNode root) {
+        final Checkpoint checkpoint = new Checkpoint();
+        checkpoint.attach(root);
+        return checkpoint;
+    }
+
+    private void attach(@CheckForNull CNode node) {
+        if (node instanceof Mapping) {
+            final Mapping mapping = (Mapping) node;
+            mapping.attach(this);
+            attached.add(mapping);
+            for (CNode value : mapping.values()) {
+                attach(value);
+            }
+        } else if (node instanceof Sequence) {
+            final Sequence sequence = (Sequence) node;
+            sequence.attach(this);
+            attached.add(sequence);
+            for (CNode item : sequence) {
+                attach(item);
+            }
+        }
+    }
+
+    synchronized void save(Mapping mapping) {
+        if (!closed && !mappings.containsKey(mapping)) {
+            mappings.put(mapping, new HashMap<>(mapping));
+        }
+    }
+
+    synchronized void save(Sequence sequence) {
+        if (!closed && !sequences.containsKey(sequence)) {
+            sequences.put(sequence, new ArrayList<>(sequence));
+        }
+    }
+
+    /**
+     * Restore the model to its content when this checkpoint was created, and stop recording modifications.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (CNode node : attached) {
+            if (node instanceof Mapping) {
+                ((Mapping) node).attach(null);
+            } else {
+                ((Sequence) node).attach(null);
+            }
+        }
+        mappings.forEach(Mapping::restore);
+        sequences.forEach(Sequence::restore);
+    }
+}
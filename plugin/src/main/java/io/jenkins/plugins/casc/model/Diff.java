@@ -0,0 +1,143 @@
+package io.jenkins.plugins.casc.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import javax.annotation.CheckForNull;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.Beta;
+
+/**
+ * Compares two configuration models, relying on {@link CNode#digest()} so identical subtrees are compared at once
+ * and only branches which differ are walked.
+ * <p>
+ * Changes are reported by path, using dotted mapping keys and {@code [index]} for sequence items, e.g.
+ * {@code jenkins.nodes[2].permanent.name}.
+ */
+@Restricted(Beta.class)
+public final class Diff {
+
+    private Diff() {
+    }
+
+    /**
+     * @return changes from {@code before} to {@code after}, ordered by path. Empty if both have the same content.
+     */
+    public static List<Change> between(@CheckForNull CNode before, @CheckForNull CNode after) {
+        final List<Change> changes = new ArrayList<>();
+        compare("", before, after, changes);
+        return Collections.unmodifiableList(changes);
+    }
+
+    private static void compare(String path, @CheckForNull CNode before, @CheckForNull CNode after, List<Change> changes) {
+        if (Digests.of(before).equals(Digests.of(after))) {
+            return;
+        }
+        if (before instanceof Mapping && after instanceof Mapping) {
+            final Mapping b = (Mapping) before;
+            final Mapping a = (Mapping) after;
+            final TreeSet<String> keys = new TreeSet<>(b.keySet());
+            keys.addAll(a.keySet());
+            for (String key : keys) {
+                final String child = path.isEmpty() ? key : path + '.' + key;
+                if (!a.containsKey(key)) {
+                    changes.add(new Change(child, Change.Kind.REMOVED, b.get(key), null));
+                } else if (!b.containsKey(key)) {
+                    changes.add(new Change(child, Change.Kind.ADDED, null, a.get(key)));
+                } else {
+                    compare(child, b.get(key), a.get(key), changes);
+                }
+            }
+            return;
+        }
+        if (before instanceof Sequence && after instanceof Sequence) {
+            final Sequence b = (Sequence) before;
+            final Sequence a = (Sequence) after;
+            final int common = Math.min(b.size(), a.size());
+            for (int i = 0; i < common; i++) {
+                compare(path + '[' + i + ']', b.get(i), a.get(i), changes);
+            }
+            for (int i = common; i < b.size(); i++) {
+                changes.add(new Change(path + '[' + i + ']', Change.Kind.REMOVED, b.get(i), null));
+            }
+            for (int i = common; i < a.size(); i++) {
+                changes.add(new Change(path + '[' + i + ']', Change.Kind.ADDED, null, a.get(i)));
+            }
+            return;
+        }
+        changes.add(new Change(path, Change.Kind.MODIFIED, before, after));
+    }
+
+    /**
+     * A single change between two configuration models.
+     */
+    public static final class Change {
+
+        public enum Kind { ADDED, REMOVED, MODIFIED }
+
+        private final String path;
+
+        private final Kind kind;
+
+        @CheckForNull
+        private final Source before;
+
+        @CheckForNull
+        private final Source after;
+
+        Change(String path, Kind kind, @CheckForNull CNode before, @CheckForNull CNode after) {
+            this.path = path;
+            this.kind = kind;
+            this.before = before != null ? before.getSource() : null;
+            this.after = after != null ? after.getSource() : null;
+        }
+
+        /**
+         * @return path to the changed node, empty for the root node
+         */
+        public String getPath() {
+            return path;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return position of the node in previous configuration, if any
+         */
+        @CheckForNull
+        public Source getBeforeSource() {
+            return before;
+        }
+
+        /**
+         * @return position of the node in new configuration, if any
+         */
+        @CheckForNull
+        public Source getAfterSource() {
+            return after;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Change)) return false;
+            final Change change = (Change) o;
+            return path.equals(change.path) && kind == change.kind;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, kind);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + path + (after != null ? " (" + after.file + ":" + after.line + ")"
+                : before != null ? " (" + before.file + ":" + before.line + ")" : "");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.jenkins.plugins.casc.model;
+
+import hudson.Util;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.annotation.CheckForNull;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Support for {@link CNode#digest()}.
+ * <p>
+ * A node digest depends on the digests of its children. A {@link Mapping} or {@link Sequence} remembers the container
+ * it has last been added to, and invalidates the digest of that container, then of its own container and so on, when
+ * it is modified. A container only caches its digest if all of its children have a cached digest and have last been
+ * added to it: so invalidation can stop at the first node without cached digest, and a node shared by several
+ * containers only prevents the other ones from caching their digest.
+ */
+final class Digests {
+
+    /**
+     * Digest of a {@code null} node, i.e. an empty value in yaml.
+     */
+    static final String NULL = hex(sha256());
+
+    private Digests() {
+    }
+
+    /**
+     * Record the container a node has been added to, so modifications to the node invalidate the container.
+     */
+    static void adopt(@CheckForNull CNode node, CNode container) {
+        if (node instanceof Mapping) {
+            ((Mapping) node).adoptedBy(container);
+        } else if (node instanceof Sequence) {
+            ((Sequence) node).adoptedBy(container);
+        }
+    }
+
+    static void invalidate(@CheckForNull CNode container) {
+        if (container instanceof Mapping) {
+            ((Mapping) container).invalidate();
+        } else if (container instanceof Sequence) {
+            ((Sequence) container).invalidate();
+        }
+    }
+
+    /**
+     * @return {@code true} if the digest of {@code node} is cached, and will be invalidated along with the digest of
+     *         {@code container}
+     */
+    static boolean isCached(@CheckForNull CNode node, CNode container) {
+        if (node instanceof Mapping) {
+            return ((Mapping) node).isCachedFor(container);
+        }
+        if (node instanceof Sequence) {
+            return ((Sequence) node).isCachedFor(container);
+        }
+        return true;
+    }
+
+    static String of(@CheckForNull CNode node) {
+        return node != null ? node.digest() : NULL;
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is required to be supported by JVM", e);
+        }
+    }
+
+    /**
+     * Add a length-prefixed value to the digest, so consecutive values can't be confused with each other.
+     */
+    static void update(MessageDigest digest, String value) {
+        final byte[] bytes = value.getBytes(UTF_8);
+        digest.update(String.valueOf(bytes.length).getBytes(UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    static String hex(MessageDigest digest) {
+        return Util.toHexString(digest.digest());
+    }
+
+}
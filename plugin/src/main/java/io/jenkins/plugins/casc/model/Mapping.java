@@ -1,7 +1,14 @@
 package io.jenkins.plugins.casc.model;
 
 import io.jenkins.plugins.casc.ConfiguratorException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -11,6 +18,9 @@ public final class Mapping extends HashMap<String, CNode> implements CNode {
 
     public static final Mapping EMPTY = new Mapping();
     private Source source;
+    private transient String digest;
+    private transient CNode container;
+    private transient Checkpoint checkpoint;
 
     public Mapping() {
         super();
@@ -32,23 +42,23 @@ public final class Mapping extends HashMap<String, CNode> implements CNode {
 
 
     public void put(String key, String value) {
-        super.put(key, new Scalar(value));
+        put(key, (CNode) new Scalar(value));
     }
 
     public void put(String key, Number value) {
-        super.put(key, new Scalar(String.valueOf(value)));
+        put(key, (CNode) new Scalar(String.valueOf(value)));
     }
 
     public void put(String key, Boolean value) {
-        super.put(key, new Scalar(String.valueOf(value)));
+        put(key, (CNode) new Scalar(String.valueOf(value)));
     }
 
     public void putIfNotNull(String key, CNode node) {
-        if (node != null) super.put(key, node);
+        if (node != null) put(key, node);
     }
 
     public void putIfNotEmpty(String key, Sequence seq) {
-        if (!seq.isEmpty()) super.put(key, seq);
+        if (!seq.isEmpty()) put(key, (CNode) seq);
     }
 
     public String getScalarValue(String key) throws ConfiguratorException {
@@ -64,6 +74,173 @@ public final class Mapping extends HashMap<String, CNode> implements CNode {
         return source;
     }
 
+    @Override
+    public String digest() {
+        final String cached = digest;
+        if (cached != null) {
+            return cached;
+        }
+        final MessageDigest md = Digests.sha256();
+        md.update((byte) 'm');
+        final List<String> keys = new ArrayList<>(keySet());
+        Collections.sort(keys);
+        boolean cacheable = true;
+        for (String key : keys) {
+            final CNode value = get(key);
+            Digests.update(md, key);
+            Digests.update(md, Digests.of(value));
+            cacheable &= Digests.isCached(value, this);
+        }
+        final String d = Digests.hex(md);
+        if (cacheable) {
+            digest = d;
+        }
+        return d;
+    }
+
+    // Modifications invalidate cached digests, and are recorded by the checkpoint this mapping is attached to.
+    // Modifications made through keySet(), values() or entrySet() views are not tracked.
+
+    void adoptedBy(CNode container) {
+        final CNode previous = this.container;
+        if (previous != container) {
+            this.container = container;
+            // previous container won't be notified of modifications anymore, so it must not cache its digest
+            Digests.invalidate(previous);
+        }
+    }
+
+    boolean isCachedFor(CNode container) {
+        return digest != null && this.container == container;
+    }
+
+    void invalidate() {
+        if (digest != null) {
+            digest = null;
+            Digests.invalidate(container);
+        }
+    }
+
+    private void modifying() {
+        invalidate();
+        final Checkpoint c = checkpoint;
+        if (c != null) {
+            c.save(this);
+        }
+    }
+
+    void attach(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    void restore(Map<String, CNode> content) {
+        invalidate();
+        super.clear();
+        super.putAll(content);
+        content.values().forEach(value -> Digests.adopt(value, this));
+    }
+
+    @Override
+    public CNode put(String key, CNode value) {
+        modifying();
+        Digests.adopt(value, this);
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends CNode> m) {
+        modifying();
+        m.values().forEach(value -> Digests.adopt(value, this));
+        super.putAll(m);
+    }
+
+    @Override
+    public CNode remove(Object key) {
+        modifying();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        modifying();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        modifying();
+        super.clear();
+    }
+
+    @Override
+    public CNode putIfAbsent(String key, CNode value) {
+        modifying();
+        final CNode previous = super.putIfAbsent(key, value);
+        if (previous == null) {
+            Digests.adopt(value, this);
+        }
+        return previous;
+    }
+
+    @Override
+    public boolean replace(String key, CNode oldValue, CNode newValue) {
+        modifying();
+        if (super.replace(key, oldValue, newValue)) {
+            Digests.adopt(newValue, this);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public CNode replace(String key, CNode value) {
+        modifying();
+        final CNode previous = super.replace(key, value);
+        if (previous != null) {
+            Digests.adopt(value, this);
+        }
+        return previous;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super CNode, ? extends CNode> function) {
+        modifying();
+        super.replaceAll(function);
+        values().forEach(value -> Digests.adopt(value, this));
+    }
+
+    @Override
+    public CNode computeIfAbsent(String key, Function<? super String, ? extends CNode> mappingFunction) {
+        modifying();
+        final CNode result = super.computeIfAbsent(key, mappingFunction);
+        Digests.adopt(result, this);
+        return result;
+    }
+
+    @Override
+    public CNode computeIfPresent(String key, BiFunction<? super String, ? super CNode, ? extends CNode> remappingFunction) {
+        modifying();
+        final CNode result = super.computeIfPresent(key, remappingFunction);
+        Digests.adopt(result, this);
+        return result;
+    }
+
+    @Override
+    public CNode compute(String key, BiFunction<? super String, ? super CNode, ? extends CNode> remappingFunction) {
+        modifying();
+        final CNode result = super.compute(key, remappingFunction);
+        Digests.adopt(result, this);
+        return result;
+    }
+
+    @Override
+    public CNode merge(String key, CNode value, BiFunction<? super CNode, ? super CNode, ? extends CNode> remappingFunction) {
+        modifying();
+        final CNode result = super.merge(key, value, remappingFunction);
+        Digests.adopt(result, this);
+        return result;
+    }
+
     @Override
     public Mapping clone() {
         final Mapping clone = new Mapping();
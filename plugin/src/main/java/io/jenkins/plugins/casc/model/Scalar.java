@@ -1,6 +1,7 @@
 package io.jenkins.plugins.casc.model;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.security.MessageDigest;
 import java.util.stream.IntStream;
 
 /**
@@ -17,6 +18,7 @@ public final class Scalar implements CNode, CharSequence {
     private Source source;
     private boolean sensitive;
     private boolean encrypted;
+    private transient String digest;
 
     public enum Format { STRING, MULTILINESTRING, BOOLEAN, NUMBER, FLOATING }
 
@@ -155,6 +157,19 @@ public final class Scalar implements CNode, CharSequence {
         return source;
     }
 
+    @Override
+    public String digest() {
+        String d = digest;
+        if (d == null) {
+            final MessageDigest md = Digests.sha256();
+            md.update((byte) 's');
+            Digests.update(md, value);
+            d = Digests.hex(md);
+            digest = d;
+        }
+        return d;
+    }
+
     @Override
     public CNode clone() {
         return new Scalar(this);
@@ -1,7 +1,12 @@
 package io.jenkins.plugins.casc.model;
 
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -10,6 +15,9 @@ import java.util.Objects;
 public final class Sequence extends ArrayList<CNode> implements CNode {
 
     private Source source;
+    private transient String digest;
+    private transient CNode container;
+    private transient Checkpoint checkpoint;
 
     public Sequence() {
     }
@@ -38,6 +46,159 @@ public final class Sequence extends ArrayList<CNode> implements CNode {
         return source;
     }
 
+    @Override
+    public String digest() {
+        final String cached = digest;
+        if (cached != null) {
+            return cached;
+        }
+        final MessageDigest md = Digests.sha256();
+        md.update((byte) 'q');
+        Digests.update(md, String.valueOf(size()));
+        boolean cacheable = true;
+        for (CNode node : this) {
+            Digests.update(md, Digests.of(node));
+            cacheable &= Digests.isCached(node, this);
+        }
+        final String d = Digests.hex(md);
+        if (cacheable) {
+            digest = d;
+        }
+        return d;
+    }
+
+    // Modifications invalidate cached digests, and are recorded by the checkpoint this sequence is attached to.
+    // Iterators and sub-lists rely on those methods to modify the sequence.
+
+    void adoptedBy(CNode container) {
+        final CNode previous = this.container;
+        if (previous != container) {
+            this.container = container;
+            // previous container won't be notified of modifications anymore, so it must not cache its digest
+            Digests.invalidate(previous);
+        }
+    }
+
+    boolean isCachedFor(CNode container) {
+        return digest != null && this.container == container;
+    }
+
+    void invalidate() {
+        if (digest != null) {
+            digest = null;
+            Digests.invalidate(container);
+        }
+    }
+
+    private void modifying() {
+        invalidate();
+        final Checkpoint c = checkpoint;
+        if (c != null) {
+            c.save(this);
+        }
+    }
+
+    void attach(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    void restore(Collection<CNode> content) {
+        invalidate();
+        super.clear();
+        super.addAll(content);
+        content.forEach(node -> Digests.adopt(node, this));
+    }
+
+    @Override
+    public boolean add(CNode node) {
+        modifying();
+        Digests.adopt(node, this);
+        return super.add(node);
+    }
+
+    @Override
+    public void add(int index, CNode node) {
+        modifying();
+        Digests.adopt(node, this);
+        super.add(index, node);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends CNode> c) {
+        modifying();
+        c.forEach(node -> Digests.adopt(node, this));
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends CNode> c) {
+        modifying();
+        c.forEach(node -> Digests.adopt(node, this));
+        return super.addAll(index, c);
+    }
+
+    @Override
+    public CNode set(int index, CNode node) {
+        modifying();
+        Digests.adopt(node, this);
+        return super.set(index, node);
+    }
+
+    @Override
+    public CNode remove(int index) {
+        modifying();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        modifying();
+        return super.remove(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        modifying();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        modifying();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super CNode> filter) {
+        modifying();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        modifying();
+        super.clear();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<CNode> operator) {
+        modifying();
+        super.replaceAll(operator);
+        forEach(node -> Digests.adopt(node, this));
+    }
+
+    @Override
+    public void sort(Comparator<? super CNode> c) {
+        modifying();
+        super.sort(c);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        modifying();
+        super.removeRange(fromIndex, toIndex);
+    }
+
     @Override
     public Sequence clone() {
         final Sequence clone = new Sequence();
@@ -0,0 +1,220 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Scalar;
+import io.jenkins.plugins.casc.model.Sequence;
+import io.jenkins.plugins.casc.model.Source;
+import io.jenkins.plugins.casc.snakeyaml.error.Mark;
+import io.jenkins.plugins.casc.snakeyaml.error.YAMLException;
+import io.jenkins.plugins.casc.snakeyaml.events.AliasEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.Event;
+import io.jenkins.plugins.casc.snakeyaml.events.MappingStartEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.ScalarEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.SequenceStartEvent;
+import io.jenkins.plugins.casc.snakeyaml.nodes.NodeId;
+import io.jenkins.plugins.casc.snakeyaml.nodes.Tag;
+import io.jenkins.plugins.casc.snakeyaml.parser.Parser;
+import io.jenkins.plugins.casc.snakeyaml.parser.ParserImpl;
+import io.jenkins.plugins.casc.snakeyaml.resolver.Resolver;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+
+/**
+ * Builds configuration-as-code model straight from snakeyaml parser events, without composing a snakeyaml
+ * {@link io.jenkins.plugins.casc.snakeyaml.nodes.Node} graph first.
+ * <p>
+ * Produces the same model as snakeyaml's composer and constructor would: scalars are kept as strings except for
+ * floating point numbers, aliases are resolved as copies of the anchored node, and merge keys ({@code <<})
+ * are supported.
+ */
+final class ModelBuilder {
+
+    private static final Resolver RESOLVER = new Resolver();
+
+    private final Parser parser;
+
+    private final Map<String, CNode> anchors = new HashMap<>();
+
+    ModelBuilder(YamlSource source, Reader reader) {
+        this.parser = new ParserImpl(new StreamReaderWithSource(source, reader));
+    }
+
+    /**
+     * @return model for the single document of the source, or {@code null} if source is empty
+     */
+    @CheckForNull
+    CNode build() {
+        parser.getEvent(); // stream start
+        CNode document = null;
+        if (!parser.checkEvent(Event.ID.StreamEnd)) {
+            parser.getEvent(); // document start
+            document = buildNode();
+            parser.getEvent(); // document end
+        }
+        if (!parser.checkEvent(Event.ID.StreamEnd)) {
+            final Event event = parser.getEvent();
+            throw new YAMLException("expected a single document in the stream but found another document" + event.getStartMark());
+        }
+        parser.getEvent(); // stream end
+        return document;
+    }
+
+    @CheckForNull
+    private CNode buildNode() {
+        final Event event = parser.getEvent();
+        final String anchor;
+        final CNode node;
+        if (event.is(Event.ID.Alias)) {
+            final String alias = ((AliasEvent) event).getAnchor();
+            if (!anchors.containsKey(alias)) {
+                throw new YAMLException("found undefined alias " + alias + event.getStartMark());
+            }
+            // configurators consume the model, so each occurrence needs its own copy, with empty values and sources
+            return ModelCache.copy(anchors.get(alias));
+        } else if (event.is(Event.ID.Scalar)) {
+            anchor = ((ScalarEvent) event).getAnchor();
+            node = buildScalar((ScalarEvent) event);
+        } else if (event.is(Event.ID.SequenceStart)) {
+            anchor = ((SequenceStartEvent) event).getAnchor();
+            node = buildSequence(event);
+        } else if (event.is(Event.ID.MappingStart)) {
+            anchor = ((MappingStartEvent) event).getAnchor();
+            node = buildMapping(event);
+        } else {
+            throw new YAMLException("unexpected " + event + event.getStartMark());
+        }
+        if (anchor != null) {
+            anchors.put(anchor, node);
+        }
+        return node;
+    }
+
+    @CheckForNull
+    private static Scalar buildScalar(ScalarEvent event) {
+        final Tag tag = tag(event);
+        final String value = event.getValue();
+        if (Tag.NULL.equals(tag)) {
+            return null;
+        }
+        if (Tag.FLOAT.equals(tag)) {
+            return new Scalar(String.valueOf(parseFloat(value)), source(event.getStartMark()));
+        }
+        return new Scalar(value, source(event.getStartMark()));
+    }
+
+    private Sequence buildSequence(Event start) {
+        final Sequence sequence = new Sequence();
+        sequence.setSource(source(start.getStartMark()));
+        while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+            sequence.add(buildNode());
+        }
+        parser.getEvent();
+        return sequence;
+    }
+
+    private Mapping buildMapping(Event start) {
+        final Mapping mapping = new Mapping();
+        mapping.setSource(source(start.getStartMark()));
+        List<Mapping> merged = null;
+        while (!parser.checkEvent(Event.ID.MappingEnd)) {
+            final Event keyEvent = parser.peekEvent();
+            final CNode key = buildNode();
+            if (!(key instanceof Scalar)) {
+                throw new IllegalStateException("We only support scalar map keys");
+            }
+            final CNode value = buildNode();
+            if (isMergeKey(keyEvent, (Scalar) key)) {
+                if (merged == null) {
+                    merged = new ArrayList<>();
+                }
+                addMerged(merged, value, keyEvent);
+            } else {
+                mapping.put(key.toString(), value);
+            }
+        }
+        parser.getEvent();
+
+        if (merged != null) {
+            // explicit keys take precedence over merged ones, then first merged mapping wins
+            for (Mapping m : merged) {
+                m.forEach((k, v) -> {
+                    if (!mapping.containsKey(k)) {
+                        mapping.put(k, v);
+                    }
+                });
+            }
+        }
+        return mapping;
+    }
+
+    private static boolean isMergeKey(Event keyEvent, Scalar key) {
+        return "<<".equals(key.toString())
+            && keyEvent.is(Event.ID.Scalar)
+            && Tag.MERGE.equals(tag((ScalarEvent) keyEvent));
+    }
+
+    private static void addMerged(List<Mapping> merged, CNode value, Event keyEvent) {
+        if (value instanceof Mapping) {
+            merged.add((Mapping) value);
+            return;
+        }
+        if (value instanceof Sequence) {
+            for (CNode item : (Sequence) value) {
+                if (!(item instanceof Mapping)) {
+                    throw new YAMLException("expected a mapping for merging" + keyEvent.getStartMark());
+                }
+                merged.add((Mapping) item);
+            }
+            return;
+        }
+        throw new YAMLException("expected a mapping or list of mappings for merging" + keyEvent.getStartMark());
+    }
+
+    private static Tag tag(ScalarEvent event) {
+        final String tag = event.getTag();
+        if (tag == null || tag.equals("!")) {
+            return RESOLVER.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+        }
+        return new Tag(tag);
+    }
+
+    /**
+     * Parse a YAML floating point number the same way snakeyaml's {@code SafeConstructor} does.
+     */
+    private static double parseFloat(String value) {
+        value = value.replaceAll("_", "");
+        int sign = +1;
+        final char first = value.charAt(0);
+        if (first == '-') {
+            sign = -1;
+            value = value.substring(1);
+        } else if (first == '+') {
+            value = value.substring(1);
+        }
+        final String lower = value.toLowerCase();
+        if (".inf".equals(lower)) {
+            return sign == -1 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        } else if (".nan".equals(lower)) {
+            return Double.NaN;
+        } else if (value.indexOf(':') != -1) {
+            final String[] digits = value.split(":");
+            int bes = 1;
+            double val = 0.0;
+            for (int i = 0, j = digits.length; i < j; i++) {
+                val += Double.parseDouble(digits[(j - i) - 1]) * bes;
+                bes *= 60;
+            }
+            return sign * val;
+        }
+        return Double.parseDouble(value) * sign;
+    }
+
+    private static Source source(Mark mark) {
+        return new Source(mark.getName(), mark.getLine() + 1);
+    }
+}
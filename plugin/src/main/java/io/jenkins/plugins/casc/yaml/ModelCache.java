@@ -0,0 +1,164 @@
+package io.jenkins.plugins.casc.yaml;
+
+import hudson.Util;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Sequence;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import org.apache.commons.io.IOUtils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keeps configuration model parsed from files and URLs, so reloading configuration only parses sources which have
+ * changed.
+ * <p>
+ * Sources are considered unchanged as long as the digest of their content is the same: reading a source is cheap
+ * compared to parsing it, and unlike file size and modification time, can't miss an edit. Only sources of the last
+ * load are kept, so sources which are no longer configured are dropped. Configurators consume the model they're
+ * given, so callers always get a copy of the cached model.
+ */
+final class ModelCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ModelCache.class.getName());
+
+    /**
+     * Set to {@code true} to parse all sources again on every load.
+     */
+    static final boolean DISABLED = Boolean.getBoolean(ModelCache.class.getName() + ".disabled");
+
+    private static final Map<String, Entry> CACHE = new ConcurrentHashMap<>();
+
+    private ModelCache() {
+    }
+
+    /**
+     * @return model for the single document of the source, or {@code null} if source is empty
+     */
+    @CheckForNull
+    static CNode load(YamlSource<?> source) throws IOException {
+        final String key = key(source);
+        if (key == null) {
+            try (Reader r = source.read()) {
+                return new ModelBuilder(source, r).build();
+            }
+        }
+
+        final String content;
+        try (Reader r = source.read()) {
+            content = IOUtils.toString(r);
+        }
+        final String version = digest(content);
+
+        final Entry cached = CACHE.get(key);
+        if (cached != null && cached.version.equals(version)) {
+            LOGGER.log(Level.FINE, "{0} is unchanged, reusing parsed configuration", key);
+            return copy(cached.node);
+        }
+
+        final CNode node = new ModelBuilder(source, new StringReader(content)).build();
+        CACHE.put(key, new Entry(version, node));
+        return copy(node);
+    }
+
+    /**
+     * Drop model of all sources but {@code sources}.
+     */
+    static void retain(List<YamlSource> sources) {
+        final Set<String> keys = new HashSet<>();
+        for (YamlSource source : sources) {
+            keys.add(key(source));
+        }
+        CACHE.keySet().retainAll(keys);
+    }
+
+    static boolean contains(YamlSource<?> source) {
+        final String key = key(source);
+        return key != null && CACHE.containsKey(key);
+    }
+
+    static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * @return key model of the source is cached with, or {@code null} if it's not cached
+     */
+    @CheckForNull
+    private static String key(YamlSource<?> source) {
+        if (DISABLED) {
+            return null;
+        }
+        if (source.source instanceof Path) {
+            return ((Path) source.source).toAbsolutePath().toString();
+        }
+        if (source.reader == YamlSource.READ_FROM_URL) {
+            return source.source();
+        }
+        return null;
+    }
+
+    private static String digest(String content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Util.toHexString(digest.digest(content.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is required to be supported by JVM", e);
+        }
+    }
+
+    /**
+     * Copy of mappings and sequences, which unlike {@link CNode#clone()} retains source positions and {@code null}
+     * values. Scalars are shared, as they're not modified while configuring.
+     */
+    @CheckForNull
+    static CNode copy(@CheckForNull CNode node) {
+        if (node instanceof Mapping) {
+            final Mapping mapping = (Mapping) node;
+            final Mapping copy = new Mapping(mapping.size());
+            copy.setSource(mapping.getSource());
+            mapping.forEach((key, value) -> copy.put(key, copy(value)));
+            return copy;
+        }
+        if (node instanceof Sequence) {
+            final Sequence sequence = (Sequence) node;
+            final Sequence copy = new Sequence(sequence.size());
+            copy.setSource(sequence.getSource());
+            for (CNode item : sequence) {
+                copy.add(copy(item));
+            }
+            return copy;
+        }
+        return node;
+    }
+
+    private static final class Entry {
+
+        /**
+         * Digest of the source content.
+         */
+        final String version;
+
+        @CheckForNull
+        final CNode node;
+
+        Entry(String version, @CheckForNull CNode node) {
+            this.version = Objects.requireNonNull(version);
+            this.node = node;
+        }
+    }
+}
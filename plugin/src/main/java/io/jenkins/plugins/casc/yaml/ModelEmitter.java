@@ -0,0 +1,182 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Scalar;
+import io.jenkins.plugins.casc.snakeyaml.DumperOptions;
+import io.jenkins.plugins.casc.snakeyaml.emitter.Emitter;
+import io.jenkins.plugins.casc.snakeyaml.events.DocumentEndEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.DocumentStartEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.Event;
+import io.jenkins.plugins.casc.snakeyaml.events.ImplicitTuple;
+import io.jenkins.plugins.casc.snakeyaml.events.MappingEndEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.MappingStartEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.ScalarEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.SequenceEndEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.SequenceStartEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.StreamEndEvent;
+import io.jenkins.plugins.casc.snakeyaml.events.StreamStartEvent;
+import io.jenkins.plugins.casc.snakeyaml.nodes.NodeId;
+import io.jenkins.plugins.casc.snakeyaml.nodes.Tag;
+import io.jenkins.plugins.casc.snakeyaml.resolver.Resolver;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+import static io.jenkins.plugins.casc.snakeyaml.DumperOptions.FlowStyle.BLOCK;
+import static io.jenkins.plugins.casc.snakeyaml.DumperOptions.ScalarStyle.DOUBLE_QUOTED;
+import static io.jenkins.plugins.casc.snakeyaml.DumperOptions.ScalarStyle.LITERAL;
+import static io.jenkins.plugins.casc.snakeyaml.DumperOptions.ScalarStyle.PLAIN;
+
+/**
+ * Writes configuration-as-code model as a Yaml document straight to snakeyaml emitter events, without building a
+ * snakeyaml {@link io.jenkins.plugins.casc.snakeyaml.nodes.Node} graph first.
+ * <p>
+ * Produces the same document as {@link io.jenkins.plugins.casc.ConfigurationAsCode#toYaml(CNode)} followed by
+ * {@link io.jenkins.plugins.casc.ConfigurationAsCode#serializeYamlNode}: mapping keys are sorted, and empty scalars
+ * as well as mappings and sequences without any value are omitted. Start events of collections are only emitted
+ * once a value is written in them, so the model is walked once.
+ */
+@Restricted(NoExternalUse.class)
+public final class ModelEmitter {
+
+    private static final Resolver RESOLVER = new Resolver();
+
+    private final Emitter emitter;
+
+    /**
+     * Keys and start events of the collections being written which don't have any value yet.
+     */
+    private final List<Event> pending = new ArrayList<>();
+
+    public ModelEmitter(Writer writer) {
+        final DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(BLOCK);
+        options.setDefaultScalarStyle(PLAIN);
+        options.setSplitLines(true);
+        options.setPrettyFlow(true);
+        this.emitter = new Emitter(writer, options);
+    }
+
+    /**
+     * Start the document, with a root mapping {@link #entry(String, CNode)} write entries into.
+     */
+    public void start() throws IOException {
+        emitter.emit(new StreamStartEvent(null, null));
+        emitter.emit(new DocumentStartEvent(null, null, false, null, null));
+        emitter.emit(mappingStart());
+    }
+
+    /**
+     * Write an entry of the root mapping, unless value is empty.
+     */
+    public void entry(String key, CNode value) throws IOException, ConfiguratorException {
+        pending.add(scalar(Tag.STR, key, PLAIN));
+        write(value);
+        pending.clear();
+    }
+
+    /**
+     * End the root mapping and the document.
+     */
+    public void end() throws IOException {
+        emitter.emit(new MappingEndEvent(null, null));
+        emitter.emit(new DocumentEndEvent(null, null, false));
+        emitter.emit(new StreamEndEvent(null, null));
+    }
+
+    private void write(CNode node) throws IOException, ConfiguratorException {
+        if (node == null) return;
+
+        final int mark = pending.size();
+        switch (node.getType()) {
+            case MAPPING:
+                final Mapping mapping = node.asMapping();
+                final List<String> keys = new ArrayList<>(mapping.keySet());
+                keys.sort(null);
+                pending.add(mappingStart());
+                for (String key : keys) {
+                    final int entry = pending.size();
+                    pending.add(scalar(Tag.STR, key, PLAIN));
+                    write(mapping.get(key));
+                    discard(entry);
+                }
+                if (!discard(mark)) {
+                    emitter.emit(new MappingEndEvent(null, null));
+                }
+                break;
+
+            case SEQUENCE:
+                pending.add(new SequenceStartEvent(null, Tag.SEQ.getValue(), true, null, null, BLOCK));
+                for (CNode item : node.asSequence()) {
+                    write(item);
+                }
+                if (!discard(mark)) {
+                    emitter.emit(new SequenceEndEvent(null, null));
+                }
+                break;
+
+            case SCALAR:
+            default:
+                final Scalar scalar = node.asScalar();
+                final String value = scalar.getValue();
+                if (value == null || value.length() == 0) return;
+
+                final DumperOptions.ScalarStyle style;
+                if (scalar.getFormat().equals(Scalar.Format.MULTILINESTRING) && !scalar.isRaw()) {
+                    style = LITERAL;
+                } else if (scalar.isRaw()) {
+                    style = PLAIN;
+                } else {
+                    style = DOUBLE_QUOTED;
+                }
+                for (Event event : pending) {
+                    emitter.emit(event);
+                }
+                pending.clear();
+                emitter.emit(scalar(getTag(scalar.getFormat()), value, style));
+        }
+    }
+
+    /**
+     * Discard pending events from {@code mark}, as nothing has been written since.
+     *
+     * @return {@code true} if events have been discarded
+     */
+    private boolean discard(int mark) {
+        if (pending.size() <= mark) return false;
+        pending.subList(mark, pending.size()).clear();
+        return true;
+    }
+
+    private static MappingStartEvent mappingStart() {
+        return new MappingStartEvent(null, Tag.MAP.getValue(), true, null, null, BLOCK);
+    }
+
+    private static ScalarEvent scalar(Tag tag, String value, DumperOptions.ScalarStyle style) {
+        // same as snakeyaml's serializer, so the emitter only writes tags when it would
+        final ImplicitTuple implicit = new ImplicitTuple(
+                tag.equals(RESOLVER.resolve(NodeId.scalar, value, true)),
+                tag.equals(RESOLVER.resolve(NodeId.scalar, value, false)));
+        return new ScalarEvent(null, tag.getValue(), implicit, value, null, null, style);
+    }
+
+    private static Tag getTag(Scalar.Format format) {
+        switch (format) {
+            case NUMBER:
+                return Tag.INT;
+            case FLOATING:
+                return Tag.FLOAT;
+            case BOOLEAN:
+                return Tag.BOOL;
+            case STRING:
+            case MULTILINESTRING:
+            default:
+                return Tag.STR;
+        }
+    }
+}
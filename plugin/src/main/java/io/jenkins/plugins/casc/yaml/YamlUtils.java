@@ -1,8 +1,12 @@
 package io.jenkins.plugins.casc.yaml;
 
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
 import io.jenkins.plugins.casc.ConfigurationAsCode;
 import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Source;
 import io.jenkins.plugins.casc.snakeyaml.composer.Composer;
 import io.jenkins.plugins.casc.snakeyaml.nodes.MappingNode;
 import io.jenkins.plugins.casc.snakeyaml.nodes.Node;
@@ -14,9 +18,17 @@ import io.jenkins.plugins.casc.snakeyaml.parser.ParserImpl;
 import io.jenkins.plugins.casc.snakeyaml.resolver.Resolver;
 import java.io.IOException;
 import java.io.Reader;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
 
 /**
  * @author <a href="mailto:nicolas.deloof@gmail.com">Nicolas De Loof</a>
@@ -26,22 +38,39 @@ public final class YamlUtils {
 
     public static final Logger LOGGER = Logger.getLogger(ConfigurationAsCode.class.getName());
 
+    /**
+     * Maximum number of sources {@link #loadFrom(List)} and {@link #merge(List)} parse concurrently. Sources are parsed one after the other
+     * by default.
+     */
+    static final int PARALLELISM = Integer.getInteger(YamlUtils.class.getName() + ".parallelism", 1);
+
+    /**
+     * Parse and merge sources as a snakeyaml node graph. Configuration itself is loaded by {@link #loadFrom(List)},
+     * which builds and merges the model directly.
+     */
     public static Node merge(List<YamlSource> configs) throws ConfiguratorException {
-        Node root = null;
-        for (YamlSource source : configs) {
-            try (Reader r = source.read()) {
+        return merge(configs, PARALLELISM);
+    }
+
+    /**
+     * Parse and merge a set of Yaml sources, parsing up to {@code parallelism} sources concurrently. Documents are
+     * always merged in the order sources are provided, so the result doesn't depend on parsing order.
+     */
+    static Node merge(List<YamlSource> configs, int parallelism) throws ConfiguratorException {
+        final List<Future<Node>> parsed = readAll(configs, parallelism, YamlUtils::readAndClose);
 
-                final Node node = read(source);
+        final Map<MappingNode, Map<String, NodeTuple>> indexes = new IdentityHashMap<>();
+        Node root = null;
+        for (int i = 0; i < configs.size(); i++) {
+            final YamlSource source = configs.get(i);
+            final Node node = parsed != null ? get(parsed.get(i), source) : readOrFail(source, YamlUtils::readAndClose);
 
-                if (root == null) {
-                    root = node;
-                } else {
-                    if (node != null) {
-                        merge(root, node, source.toString());
-                    }
+            if (root == null) {
+                root = node;
+            } else {
+                if (node != null) {
+                    merge(root, node, source.toString(), indexes);
                 }
-            } catch (IOException io) {
-                throw new ConfiguratorException("Failed to read " + source, io);
             }
         }
 
@@ -49,11 +78,82 @@ public final class YamlUtils {
     }
 
     public static Node read(YamlSource source) throws IOException {
-        Composer composer = new Composer(new ParserImpl(new StreamReaderWithSource(source)), new Resolver());
+        return read(source, source.read());
+    }
+
+    private static Node read(YamlSource source, Reader reader) {
+        Composer composer = new Composer(new ParserImpl(new StreamReaderWithSource(source, reader)), new Resolver());
         return composer.getSingleNode();
     }
 
-    private static void merge(Node root, Node node, String source) throws ConfiguratorException {
+    private static Node readAndClose(YamlSource source) throws IOException {
+        try (Reader r = source.read()) {
+            return read(source, r);
+        }
+    }
+
+    private static <T> T readOrFail(YamlSource source, SourceParser<T> parser) throws ConfiguratorException {
+        try {
+            return parser.parse(source);
+        } catch (IOException io) {
+            throw new ConfiguratorException("Failed to read " + source, io);
+        }
+    }
+
+    /**
+     * Starts parsing sources concurrently, if enabled.
+     *
+     * @return pending parse results, in the same order as sources, or {@code null} if sources are to be parsed
+     *         sequentially on the calling thread.
+     */
+    @CheckForNull
+    private static <T> List<Future<T>> readAll(List<YamlSource> configs, int parallelism, SourceParser<T> parser) {
+        if (parallelism <= 1 || configs.size() <= 1) {
+            return null;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, configs.size()),
+                new NamingThreadFactory(new DaemonThreadFactory(), "Configuration-as-Code parser"));
+        try {
+            final List<Future<T>> parsed = new ArrayList<>(configs.size());
+            for (YamlSource source : configs) {
+                parsed.add(executor.submit(() -> readOrFail(source, parser)));
+            }
+            return parsed;
+        } finally {
+            // already submitted tasks still run to completion
+            executor.shutdown();
+        }
+    }
+
+    private static <T> T get(Future<T> future, YamlSource source) throws ConfiguratorException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfiguratorException("Interrupted while reading " + source, e);
+        } catch (ExecutionException e) {
+            // report failure as if source had been parsed on the calling thread
+            final Throwable cause = e.getCause();
+            if (cause instanceof ConfiguratorException) {
+                throw (ConfiguratorException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ConfiguratorException("Failed to read " + source, cause);
+        }
+    }
+
+    /**
+     * Merge {@code node} into {@code root}.
+     *
+     * @param indexes mapping entries by key, for each mapping of {@code root} merged so far. Kept across all the
+     *                documents merged into the same root, so merging is linear in the number of merged entries.
+     */
+    private static void merge(Node root, Node node, String source, Map<MappingNode, Map<String, NodeTuple>> indexes) throws ConfiguratorException {
         if (root.getNodeId() != node.getNodeId()) {
             // means one of those yaml file doesn't conform to JCasC schema
             throw new ConfiguratorException(
@@ -69,28 +169,35 @@ public final class YamlUtils {
             case mapping:
                 MappingNode map = (MappingNode) root;
                 MappingNode map2 = (MappingNode) node;
-                // merge common entries
-                final Iterator<NodeTuple> it = map2.getValue().iterator();
-                while (it.hasNext()) {
-                    NodeTuple t2 = it.next();
-                    for (NodeTuple tuple : map.getValue()) {
-
-                        final Node key = tuple.getKeyNode();
-                        final Node key2 = t2.getKeyNode();
-                        if (key.getNodeId() == NodeId.scalar) {
-                            // We dont support merge for more complex cases (yet)
-                            if (((ScalarNode) key).getValue().equals(((ScalarNode) key2).getValue())) {
-                                merge(tuple.getValueNode(), t2.getValueNode(), source);
-                                it.remove();
-                            }
-                        } else {
-                            throw new ConfiguratorException(
-                                    String.format("Found unmergeable configuration keys %s %s)", source, node.getEndMark()));
-                        }
+                if (map2.getValue().isEmpty()) {
+                    return;
+                }
+                final Map<String, NodeTuple> index = indexes.computeIfAbsent(map, YamlUtils::index);
+                if (index == null) {
+                    // We dont support merge for more complex cases (yet)
+                    throw new ConfiguratorException(
+                            String.format("Found unmergeable configuration keys %s %s)", source, node.getEndMark()));
+                }
+                // merge common entries ..
+                final List<NodeTuple> others = new ArrayList<>();
+                for (NodeTuple t2 : map2.getValue()) {
+                    final Node key2 = t2.getKeyNode();
+                    if (key2.getNodeId() != NodeId.scalar) {
+                        throw new ConfiguratorException(
+                                String.format("Found unmergeable configuration keys %s %s)", source, node.getEndMark()));
+                    }
+                    final NodeTuple tuple = index.get(((ScalarNode) key2).getValue());
+                    if (tuple != null) {
+                        merge(tuple.getValueNode(), t2.getValueNode(), source, indexes);
+                    } else {
+                        others.add(t2);
                     }
                 }
                 // .. and add others
-                map.getValue().addAll(map2.getValue());
+                map.getValue().addAll(others);
+                for (NodeTuple t : others) {
+                    index.putIfAbsent(((ScalarNode) t.getKeyNode()).getValue(), t);
+                }
                 return;
             default:
                 throw new ConfiguratorException(
@@ -99,31 +206,102 @@ public final class YamlUtils {
 
     }
 
+    /**
+     * @return mapping entries by key, or {@code null} if some keys are not scalars
+     */
+    @CheckForNull
+    private static Map<String, NodeTuple> index(MappingNode map) {
+        final Map<String, NodeTuple> index = new HashMap<>();
+        for (NodeTuple tuple : map.getValue()) {
+            final Node key = tuple.getKeyNode();
+            if (key.getNodeId() != NodeId.scalar) {
+                return null;
+            }
+            index.putIfAbsent(((ScalarNode) key).getValue(), tuple);
+        }
+        return index;
+    }
+
     /**
      * Load configuration-as-code model from a set of Yaml sources, merging documents
      */
     public static Mapping loadFrom(List<YamlSource> sources) throws ConfiguratorException {
+        return loadFrom(sources, PARALLELISM);
+    }
+
+    /**
+     * Load configuration-as-code model from a set of Yaml sources, parsing up to {@code parallelism} sources
+     * concurrently. Each document is built straight into the model, then merged in the order sources are provided.
+     * Model parsed from files and URLs which haven't changed since they were last loaded is reused, and model of
+     * other sources is dropped.
+     */
+    static Mapping loadFrom(List<YamlSource> sources, int parallelism) throws ConfiguratorException {
         if (sources.isEmpty()) return Mapping.EMPTY;
-        final Node merged = merge(sources);
-        if (merged == null) {
+        final List<Future<CNode>> parsed = readAll(sources, parallelism, ModelCache::load);
+
+        CNode root = null;
+        for (int i = 0; i < sources.size(); i++) {
+            final YamlSource source = sources.get(i);
+            final CNode node = parsed != null ? get(parsed.get(i), source) : readOrFail(source, ModelCache::load);
+
+            if (root == null) {
+                root = node;
+            } else {
+                if (node != null) {
+                    merge(root, node, source.toString());
+                }
+            }
+        }
+
+        ModelCache.retain(sources);
+
+        if (root == null) {
             LOGGER.warning("configuration-as-code yaml source returned an empty document.");
             return Mapping.EMPTY;
         }
-        return loadFrom(merged);
+        return root.asMapping();
     }
 
     /**
-     * Load configuration-as-code model from a snakeyaml Node
+     * Merge {@code node} into {@code root}. Merged nodes are moved into {@code root}, not copied.
      */
-    private static Mapping loadFrom(Node node) {
-        final ModelConstructor constructor = new ModelConstructor();
-        constructor.setComposer(new Composer(null, null) {
-
-            @Override
-            public Node getSingleNode() {
-                return node;
+    private static void merge(CNode root, CNode node, String source) throws ConfiguratorException {
+        if (root == null || node == null || root.getType() != node.getType()) {
+            if (root == null && node == null) {
+                throw new ConfiguratorException(String.format("Found conflicting configuration at %s", source));
             }
-        });
-        return (Mapping) constructor.getSingleData(Mapping.class);
+            // means one of those yaml file doesn't conform to JCasC schema
+            throw new ConfiguratorException(
+                    String.format("Found incompatible configuration elements %s %s", source, position(node != null ? node : root)));
+        }
+
+        switch (root.getType()) {
+            case SEQUENCE:
+                root.asSequence().addAll(node.asSequence());
+                return;
+            case MAPPING:
+                final Mapping map = root.asMapping();
+                for (Map.Entry<String, CNode> entry : node.asMapping().entrySet()) {
+                    if (map.containsKey(entry.getKey())) {
+                        merge(map.get(entry.getKey()), entry.getValue(), source);
+                    } else {
+                        map.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                return;
+            default:
+                throw new ConfiguratorException(
+                        String.format("Found conflicting configuration at %s %s", source, position(node)));
+        }
+    }
+
+    private static String position(CNode node) {
+        final Source source = node.getSource();
+        return source != null ? String.format("in '%s', line %d", source.file, source.line) : "";
+    }
+
+    @FunctionalInterface
+    private interface SourceParser<T> {
+        T parse(YamlSource source) throws IOException;
     }
 }
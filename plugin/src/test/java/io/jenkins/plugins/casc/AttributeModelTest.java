@@ -0,0 +1,84 @@
+package io.jenkins.plugins.casc;
+
+import io.jenkins.plugins.casc.model.Mapping;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.jvnet.hudson.test.For;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@For(AttributeModel.class)
+public class AttributeModelTest {
+
+    @Test
+    public void introspectionIsCachedPerClass() {
+        assertSame(AttributeModel.of(Bean.class), AttributeModel.of(Bean.class));
+    }
+
+    @Test
+    public void invalidate() {
+        final AttributeModel model = AttributeModel.of(Bean.class);
+        AttributeModel.invalidate();
+        final AttributeModel introspected = AttributeModel.of(Bean.class);
+        assertNotSame(model, introspected);
+        // cached again
+        assertSame(introspected, AttributeModel.of(Bean.class));
+    }
+
+    @Test
+    public void describe() {
+        final BeanConfigurator configurator = new BeanConfigurator();
+        assertThat(names(configurator.describe()), containsInAnyOrder("name", "enabled"));
+        final AttributeModel model = AttributeModel.of(Bean.class);
+
+        // subsequent calls don't introspect target class again
+        assertThat(names(configurator.describe()), containsInAnyOrder("name", "enabled"));
+        assertSame(model, AttributeModel.of(Bean.class));
+    }
+
+    private static Set<String> names(Set<Attribute<Bean, ?>> attributes) {
+        return attributes.stream().map(Attribute::getName).collect(Collectors.toSet());
+    }
+
+    public static class Bean {
+        private String name;
+        private boolean enabled;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setWriteOnly(String value) {
+            // no getter, not an attribute
+        }
+    }
+
+    private static class BeanConfigurator extends BaseConfigurator<Bean> {
+
+        @Override
+        public Class<Bean> getTarget() {
+            return Bean.class;
+        }
+
+        @Override
+        protected Bean instance(Mapping mapping, ConfigurationContext context) {
+            return new Bean();
+        }
+    }
+}
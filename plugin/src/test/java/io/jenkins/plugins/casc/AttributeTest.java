@@ -1,6 +1,10 @@
 package io.jenkins.plugins.casc;
 
 import hudson.util.Secret;
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.junit.After;
@@ -12,7 +16,10 @@ import org.jvnet.hudson.test.Issue;
 import org.jvnet.hudson.test.LoggerRule;
 import org.kohsuke.stapler.DataBoundConstructor;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 @For(Attribute.class)
@@ -69,6 +76,77 @@ public class AttributeTest {
         assertFieldIsNotSecret(NonSecretField.class, "passwordPath");
     }
 
+    @Test
+    public void secretDecisionsAreCached() {
+        // other tests may have cached these decisions already
+        ExtensionsChangeListener.invalidate();
+        assertFieldIsSecret(SecretFromPrivateField3.class, "secretField");
+        assertFieldIsNotSecret(NonSecretField.class, "passwordPath");
+        assertEquals(1, decisions(SecretFromPrivateField3.class, "secretField"));
+        assertEquals(1, decisions(NonSecretField.class, "passwordPath"));
+
+        // served from cache
+        assertFieldIsSecret(SecretFromPrivateField3.class, "secretField");
+        assertFieldIsNotSecret(NonSecretField.class, "passwordPath");
+        assertEquals(1, decisions(SecretFromPrivateField3.class, "secretField"));
+        assertEquals(1, decisions(NonSecretField.class, "passwordPath"));
+
+        ExtensionsChangeListener.invalidate();
+        assertFieldIsSecret(SecretFromPrivateField3.class, "secretField");
+        assertFieldIsNotSecret(NonSecretField.class, "passwordPath");
+        assertEquals(2, decisions(SecretFromPrivateField3.class, "secretField"));
+        assertEquals(2, decisions(NonSecretField.class, "passwordPath"));
+    }
+
+    /**
+     * @return number of times the class was introspected to decide whether the attribute is secret
+     */
+    private long decisions(Class<?> clazz, String fieldName) {
+        final String prefix = "Attribute " + clazz.getName() + "#" + fieldName + " is ";
+        return logging.getMessages().stream().filter(m -> m.startsWith(prefix)).count();
+    }
+
+    @Test
+    public void defaultAccessors() throws Exception {
+        final Beans bean = new Beans();
+        final Attribute<Beans, String> name = new Attribute<>("name", String.class);
+        name.setValue(bean, "foo");
+        assertEquals("foo", name.getValue(bean));
+
+        // no getter, read from field
+        final Attribute<Beans, Integer> count = new Attribute<>("count", int.class);
+        count.setValue(bean, 42);
+        assertEquals(Integer.valueOf(42), count.getValue(bean));
+
+        // setter expects an array
+        final Attribute<Beans, Collection<String>> values = new Attribute<Beans, Collection<String>>("values", String.class).multiple(true);
+        values.setValue(bean, Arrays.asList("a", "b"));
+        assertArrayEquals(new String[] {"a", "b"}, bean.values);
+    }
+
+    @Test
+    public void defaultSetterFailures() throws Exception {
+        final Beans bean = new Beans();
+        final Attribute<Beans, Object> count = new Attribute<>("count", int.class);
+        // widened, as reflection would
+        count.setValue(bean, (short) 3);
+        assertEquals(3, bean.count);
+
+        // conversion failures are reported before the setter is invoked
+        assertThrows(IllegalArgumentException.class, () -> count.setValue(bean, "three"));
+        assertThrows(IllegalArgumentException.class, () -> count.setValue(bean, null));
+        assertThrows(IllegalArgumentException.class, () -> new Attribute<Beans, Object>("name", String.class).setValue(bean, 42));
+
+        final InvocationTargetException e = assertThrows(InvocationTargetException.class,
+            () -> new Attribute<Beans, Object>("failing", String.class).setValue(bean, "value"));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test(expected = ConfiguratorException.class)
+    public void unknownGetter() throws Exception {
+        new Attribute<Beans, String>("unknown", String.class).getValue(new Beans());
+    }
+
     public static void assertFieldIsSecret(Class<?> clazz, String fieldName) {
         String displayName = clazz != null ? (clazz.getName() + "#" + fieldName) : fieldName;
         assertTrue("Field is not secret: " + displayName,
@@ -81,6 +159,36 @@ public class AttributeTest {
                 Attribute.calculateIfSecret(clazz, fieldName));
     }
 
+    public static class Beans {
+        private String name;
+        private int count;
+        private String[] values;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String[] getValues() {
+            return values;
+        }
+
+        public void setValues(String... values) {
+            this.values = values;
+        }
+
+        public void setFailing(String value) {
+            throw new IllegalStateException("Can't set " + value);
+        }
+    }
+
     public static class WellDefinedField {
 
         Secret secretField;
@@ -0,0 +1,54 @@
+package io.jenkins.plugins.casc.impl;
+
+import io.jenkins.plugins.casc.ConfiguratorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelTasksTest {
+
+    @Test
+    public void runConcurrently() throws Exception {
+        final CountDownLatch started = new CountDownLatch(2);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final List<ParallelTasks.Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            tasks.add(() -> {
+                threads.add(Thread.currentThread().getName());
+                started.countDown();
+                try {
+                    // both tasks have to run at the same time to complete
+                    assertTrue(started.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new ConfiguratorException(e);
+                }
+            });
+        }
+        ParallelTasks.run("test", tasks, 2);
+        assertEquals(2, threads.size());
+    }
+
+    @Test
+    public void reportFailuresInTasksOrder() {
+        final List<ParallelTasks.Task> tasks = new ArrayList<>();
+        tasks.add(() -> { });
+        for (int i = 1; i < 5; i++) {
+            final String message = "task " + i;
+            tasks.add(() -> {
+                throw new ConfiguratorException(message);
+            });
+        }
+        final ConfiguratorException e = assertThrows(ConfiguratorException.class, () -> ParallelTasks.run("test", tasks, 4));
+        assertEquals("task 1", e.getMessage());
+        assertEquals(3, e.getSuppressed().length);
+        assertEquals("task 2", e.getSuppressed()[0].getMessage());
+    }
+}
@@ -0,0 +1,66 @@
+package io.jenkins.plugins.casc.impl.configurators;
+
+import hudson.PluginWrapper;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlobalConfigurationCategoryConfiguratorTest {
+
+    @Test
+    public void pluginsDependingOnEachOtherAreGrouped() {
+        final Map<String, List<String>> plugins = new LinkedHashMap<>();
+        plugins.put("git", Arrays.asList("git-scm", "git-tool"));
+        plugins.put("mailer", Collections.singletonList("mailer"));
+        plugins.put("credentials", Collections.singletonList("credentials"));
+        plugins.put("workflow-cps", Collections.singletonList("workflow-cps"));
+        plugins.put("git-client", Collections.singletonList("git-client"));
+
+        final Map<String, Set<String>> dependencies = new HashMap<>();
+        dependencies.put("git", set("git-client", "credentials", "structs"));
+        dependencies.put("git-client", set("credentials", "structs"));
+        dependencies.put("credentials", set("structs"));
+        // sharing a dependency which isn't configured doesn't relate plugins
+        dependencies.put("mailer", set("structs"));
+        dependencies.put("workflow-cps", set("structs"));
+
+        assertEquals(Arrays.asList(
+            Arrays.asList("git-scm", "git-tool", "credentials", "git-client"),
+            Collections.singletonList("mailer"),
+            Collections.singletonList("workflow-cps")),
+            GlobalConfigurationCategoryConfigurator.group(plugins, dependencies));
+    }
+
+    @Test
+    public void pluginsLinkedByOptionalDependencyAreGrouped() {
+        final Map<String, List<PluginWrapper.Dependency>> installed = new HashMap<>();
+        installed.put("a", Collections.singletonList(new PluginWrapper.Dependency("b:1.0;resolution:=optional")));
+        installed.put("b", Collections.emptyList());
+        installed.put("c", Collections.singletonList(new PluginWrapper.Dependency("missing:1.0;resolution:=optional")));
+
+        final Map<String, Set<String>> dependencies = new HashMap<>();
+        assertEquals(set("b"), GlobalConfigurationCategoryConfigurator.dependencies("a", installed::get, dependencies));
+        // optional dependency isn't installed
+        assertEquals(set(), GlobalConfigurationCategoryConfigurator.dependencies("c", installed::get, dependencies));
+        GlobalConfigurationCategoryConfigurator.dependencies("b", installed::get, dependencies);
+
+        final Map<String, List<String>> plugins = new LinkedHashMap<>();
+        plugins.put("a", Collections.singletonList("a"));
+        plugins.put("b", Collections.singletonList("b"));
+        plugins.put("c", Collections.singletonList("c"));
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c")),
+            GlobalConfigurationCategoryConfigurator.group(plugins, dependencies));
+    }
+
+    private static Set<String> set(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+}
@@ -0,0 +1,48 @@
+package io.jenkins.plugins.casc.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class CheckpointTest {
+
+    @Test
+    public void restoreConsumedModel() throws Exception {
+        final Mapping config = config();
+        final String digest = config.digest();
+        final CNode message = config.get("jenkins").asMapping().get("systemMessage");
+
+        try (Checkpoint checkpoint = Checkpoint.of(config)) {
+            final Mapping jenkins = config.remove("jenkins").asMapping();
+            jenkins.remove("systemMessage");
+            ((Sequence) jenkins.get("labels")).remove(0);
+            config.put("unclassified", new Mapping());
+        }
+
+        assertEquals(digest, config.digest());
+        assertSame(message, config.get("jenkins").asMapping().get("systemMessage"));
+    }
+
+    @Test
+    public void modificationsAfterCloseAreKept() throws Exception {
+        final Mapping config = config();
+        Checkpoint.of(config).close();
+
+        config.get("jenkins").asMapping().remove("systemMessage");
+        assertFalse(config.get("jenkins").asMapping().containsKey("systemMessage"));
+    }
+
+    private static Mapping config() {
+        final Mapping jenkins = new Mapping();
+        jenkins.put("systemMessage", "hello");
+        final Sequence labels = new Sequence();
+        labels.add(new Scalar("a"));
+        labels.add(new Scalar("b"));
+        jenkins.put("labels", labels);
+        final Mapping config = new Mapping();
+        config.put("jenkins", jenkins);
+        return config;
+    }
+}
@@ -0,0 +1,107 @@
+package io.jenkins.plugins.casc.model;
+
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DiffTest {
+
+    @Test
+    public void sameContentHasSameDigest() {
+        assertEquals(config("hello", "a", "b").digest(), config("hello", "a", "b").digest());
+        assertNotEquals(config("hello", "a", "b").digest(), config("hello", "b", "a").digest());
+        assertNotEquals(new Scalar("1").digest(), new Sequence().digest());
+    }
+
+    @Test
+    public void digestChangesOnModification() throws Exception {
+        final Mapping config = config("hello", "a", "b");
+        final String digest = config.digest();
+        ((Sequence) config.get("jenkins").asMapping().get("labels")).add(new Scalar("c"));
+        assertNotEquals(digest, config.digest());
+        ((Sequence) config.get("jenkins").asMapping().get("labels")).remove(2);
+        assertEquals(digest, config.digest());
+    }
+
+    @Test
+    public void digestIsCachedPerNode() throws Exception {
+        final Mapping config = config("hello", "a", "b");
+        final Mapping jenkins = config.get("jenkins").asMapping();
+        final String digest = config.digest();
+        final String jenkinsDigest = jenkins.digest();
+
+        // modifications to another model don't invalidate cached digests
+        config("hello", "a", "b").put("unclassified", new Mapping());
+        assertSame(digest, config.digest());
+
+        // nor do modifications to siblings
+        config.put("unclassified", new Mapping());
+        assertNotEquals(digest, config.digest());
+        assertSame(jenkinsDigest, jenkins.digest());
+    }
+
+    @Test
+    public void sharedNodeInvalidatesAllContainers() {
+        final Sequence labels = new Sequence();
+        labels.add(new Scalar("a"));
+        final Mapping first = new Mapping();
+        first.put("labels", labels);
+        final Mapping second = new Mapping();
+        second.put("labels", labels);
+        final String digest = first.digest();
+        assertEquals(digest, second.digest());
+
+        labels.add(new Scalar("b"));
+        assertNotEquals(digest, first.digest());
+        assertEquals(first.digest(), second.digest());
+    }
+
+    @Test
+    public void noChanges() {
+        assertTrue(Diff.between(config("hello", "a", "b"), config("hello", "a", "b")).isEmpty());
+    }
+
+    @Test
+    public void changedPaths() throws Exception {
+        final Mapping before = config("hello", "a", "b");
+        final Mapping after = config("hello world", "a", "c", "d");
+        after.get("jenkins").asMapping().remove("numExecutors");
+        after.put("unclassified", new Mapping());
+
+        final List<Diff.Change> changes = Diff.between(before, after);
+        assertEquals(5, changes.size());
+        assertChange(changes.get(0), "jenkins.labels[1]", Diff.Change.Kind.MODIFIED);
+        assertChange(changes.get(1), "jenkins.labels[2]", Diff.Change.Kind.ADDED);
+        assertChange(changes.get(2), "jenkins.numExecutors", Diff.Change.Kind.REMOVED);
+        assertChange(changes.get(3), "jenkins.systemMessage", Diff.Change.Kind.MODIFIED);
+        assertChange(changes.get(4), "unclassified", Diff.Change.Kind.ADDED);
+
+        assertEquals(3, changes.get(3).getAfterSource().line);
+        assertEquals(2, changes.get(2).getBeforeSource().line);
+        assertNull(changes.get(2).getAfterSource());
+    }
+
+    private static void assertChange(Diff.Change change, String path, Diff.Change.Kind kind) {
+        assertEquals(path, change.getPath());
+        assertEquals(kind, change.getKind());
+    }
+
+    private static Mapping config(String systemMessage, String... labels) {
+        final Mapping jenkins = new Mapping();
+        jenkins.put("numExecutors", new Scalar("2", new Source("jenkins.yaml", 2)));
+        jenkins.put("systemMessage", new Scalar(systemMessage, new Source("jenkins.yaml", 3)));
+        final Sequence sequence = new Sequence();
+        for (String label : labels) {
+            sequence.add(new Scalar(label));
+        }
+        jenkins.put("labels", sequence);
+        final Mapping config = new Mapping();
+        config.put("jenkins", jenkins);
+        return config;
+    }
+}
@@ -0,0 +1,117 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Sequence;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ModelBuilderTest {
+
+    @Test
+    public void scalars() throws Exception {
+        final Mapping jenkins = load("jenkins:\n"
+            + "  systemMessage: \"hello\"\n"
+            + "  numExecutors: 2\n"
+            + "  enabled: true\n"
+            + "  ratio: 1.50\n"
+            + "  nothing:\n").get("jenkins").asMapping();
+        assertEquals("hello", jenkins.get("systemMessage").asScalar().getValue());
+        assertEquals("2", jenkins.get("numExecutors").asScalar().getValue());
+        assertEquals("true", jenkins.get("enabled").asScalar().getValue());
+        assertEquals("1.5", jenkins.get("ratio").asScalar().getValue());
+        assertTrue(jenkins.containsKey("nothing"));
+        assertNull(jenkins.get("nothing"));
+    }
+
+    @Test
+    public void sources() throws Exception {
+        final Mapping root = load("jenkins:\n  labels:\n    - a\n");
+        final Mapping jenkins = root.get("jenkins").asMapping();
+        assertEquals(2, jenkins.getSource().line);
+        final Sequence labels = jenkins.get("labels").asSequence();
+        assertEquals(3, labels.getSource().line);
+        assertEquals(3, labels.get(0).getSource().line);
+    }
+
+    @Test
+    public void aliasesAreCopies() throws Exception {
+        final Mapping root = load("a: &anchor\n  key: value\nb: *anchor\n");
+        final Mapping a = root.get("a").asMapping();
+        final Mapping b = root.get("b").asMapping();
+        assertNotSame(a, b);
+        a.remove("key");
+        assertEquals("value", b.get("key").asScalar().getValue());
+    }
+
+    @Test
+    public void aliasesKeepEmptyValuesAndSources() throws Exception {
+        final Mapping root = load("a: &anchor\n  key: value\n  empty:\nb: *anchor\n");
+        final Mapping a = root.get("a").asMapping();
+        final Mapping b = root.get("b").asMapping();
+        assertTrue(b.containsKey("empty"));
+        assertNull(b.get("empty"));
+        // positions of the anchored node
+        assertEquals(a.getSource().line, b.getSource().line);
+        assertEquals(2, b.get("key").getSource().line);
+    }
+
+    @Test
+    public void mergeKeys() throws Exception {
+        final Mapping root = load("base: &base\n  a: 1\n  b: 2\nchild:\n  <<: *base\n  b: 3\n");
+        final Mapping child = root.get("child").asMapping();
+        assertEquals("1", child.get("a").asScalar().getValue());
+        assertEquals("3", child.get("b").asScalar().getValue());
+    }
+
+    @Test
+    public void mergeSources() throws Exception {
+        final Mapping root = YamlUtils.loadFrom(Arrays.asList(
+            source("jenkins:\n  systemMessage: hello\n  labels:\n    - a\n"),
+            source("jenkins:\n  labels:\n    - b\nunclassified:\n  foo: bar\n")), 1);
+        final Mapping jenkins = root.get("jenkins").asMapping();
+        assertEquals("hello", jenkins.get("systemMessage").asScalar().getValue());
+        assertEquals(2, jenkins.get("labels").asSequence().size());
+        assertEquals("bar", root.get("unclassified").asMapping().get("foo").asScalar().getValue());
+    }
+
+    @Test
+    public void parallelLoadKeepsSourcesOrder() throws Exception {
+        final List<YamlSource> sources = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sources.add(source("jenkins:\n  labels:\n    - label" + i + "\n"));
+        }
+        final Sequence labels = YamlUtils.loadFrom(sources, 4).get("jenkins").asMapping().get("labels").asSequence();
+        for (int i = 0; i < 20; i++) {
+            assertEquals("label" + i, labels.get(i).asScalar().getValue());
+        }
+    }
+
+    @Test
+    public void conflictingSources() {
+        final ConfiguratorException e = assertThrows(ConfiguratorException.class, () -> YamlUtils.loadFrom(Arrays.asList(
+            source("jenkins:\n  systemMessage: hello\n"),
+            source("jenkins:\n  systemMessage: world\n")), 1));
+        assertThat(e.getMessage(), containsString("Found conflicting configuration"));
+    }
+
+    private static Mapping load(String yaml) throws ConfiguratorException {
+        return YamlUtils.loadFrom(Arrays.asList(source(yaml)), 1);
+    }
+
+    private static YamlSource source(String yaml) {
+        return YamlSource.of(new ByteArrayInputStream(yaml.getBytes(UTF_8)));
+    }
+}
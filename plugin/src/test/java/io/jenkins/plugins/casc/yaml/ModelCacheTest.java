@@ -0,0 +1,98 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.model.Mapping;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class ModelCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void clear() {
+        ModelCache.clear();
+    }
+
+    @Test
+    public void unchangedFileIsNotParsedAgain() throws Exception {
+        final Path file = folder.newFile("jenkins.yaml").toPath();
+        Files.write(file, "jenkins:\n  systemMessage: hello\n".getBytes(UTF_8));
+
+        final Mapping first = load(file);
+        // configurators consume the model
+        first.get("jenkins").asMapping().remove("systemMessage");
+
+        final Mapping second = load(file);
+        assertNotSame(first, second);
+        assertEquals("hello", second.get("jenkins").asMapping().get("systemMessage").asScalar().getValue());
+        assertEquals(2, second.get("jenkins").getSource().line);
+    }
+
+    @Test
+    public void changedFileIsParsedAgain() throws Exception {
+        final Path file = folder.newFile("jenkins.yaml").toPath();
+        Files.write(file, "jenkins:\n  systemMessage: hello\n".getBytes(UTF_8));
+        assertEquals("hello", load(file).get("jenkins").asMapping().get("systemMessage").asScalar().getValue());
+
+        Files.write(file, "jenkins:\n  systemMessage: hello world\n".getBytes(UTF_8));
+        assertEquals("hello world", load(file).get("jenkins").asMapping().get("systemMessage").asScalar().getValue());
+    }
+
+    @Test
+    public void sameSizeAndTimestampIsParsedAgain() throws Exception {
+        final Path file = folder.newFile("jenkins.yaml").toPath();
+        Files.write(file, "jenkins:\n  systemMessage: hello\n".getBytes(UTF_8));
+        final FileTime modified = Files.getLastModifiedTime(file);
+        assertEquals("hello", load(file).get("jenkins").asMapping().get("systemMessage").asScalar().getValue());
+
+        Files.write(file, "jenkins:\n  systemMessage: world\n".getBytes(UTF_8));
+        Files.setLastModifiedTime(file, modified);
+        assertEquals("world", load(file).get("jenkins").asMapping().get("systemMessage").asScalar().getValue());
+    }
+
+    @Test
+    public void sourcesNoLongerLoadedAreDropped() throws Exception {
+        final Path first = folder.newFile("first.yaml").toPath();
+        Files.write(first, "jenkins:\n  systemMessage: hello\n".getBytes(UTF_8));
+        final Path second = folder.newFile("second.yaml").toPath();
+        Files.write(second, "jenkins:\n  numExecutors: 2\n".getBytes(UTF_8));
+
+        YamlUtils.loadFrom(Arrays.asList(YamlSource.of(first), YamlSource.of(second)), 1);
+        assertTrue(ModelCache.contains(YamlSource.of(first)));
+        assertTrue(ModelCache.contains(YamlSource.of(second)));
+
+        load(second);
+        assertFalse(ModelCache.contains(YamlSource.of(first)));
+        assertTrue(ModelCache.contains(YamlSource.of(second)));
+    }
+
+    @Test
+    public void unchangedUrlIsNotParsedAgain() throws Exception {
+        final Path file = folder.newFile("jenkins.yaml").toPath();
+        Files.write(file, "jenkins:\n  systemMessage: hello\n".getBytes(UTF_8));
+        final YamlSource<String> source = YamlSource.of(file.toUri().toURL());
+
+        final Mapping first = YamlUtils.loadFrom(Collections.singletonList(source), 1);
+        first.get("jenkins").asMapping().clear();
+        final Mapping second = YamlUtils.loadFrom(Collections.singletonList(source), 1);
+        assertEquals("hello", second.get("jenkins").asMapping().get("systemMessage").asScalar().getValue());
+    }
+
+    private static Mapping load(Path file) throws Exception {
+        return YamlUtils.loadFrom(Collections.singletonList(YamlSource.of(file)), 1);
+    }
+}
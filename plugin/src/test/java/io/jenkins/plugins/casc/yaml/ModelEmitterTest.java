@@ -0,0 +1,75 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.model.Scalar;
+import io.jenkins.plugins.casc.model.Sequence;
+import java.io.StringWriter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ModelEmitterTest {
+
+    @Test
+    public void sortedEntriesAndScalarStyles() throws Exception {
+        final Mapping jenkins = new Mapping();
+        jenkins.put("systemMessage", "hello\nworld\n");
+        jenkins.put("mode", new Scalar(Thread.State.NEW));
+        jenkins.put("label", "true");
+        final Sequence nodes = new Sequence();
+        final Mapping agent = new Mapping();
+        agent.put("name", "agent1");
+        nodes.add(agent);
+        nodes.add(new Scalar("x"));
+        jenkins.put("nodes", nodes);
+
+        assertEquals("jenkins:\n"
+            + "  label: \"true\"\n"
+            + "  mode: NEW\n"
+            + "  nodes:\n"
+            + "  - name: \"agent1\"\n"
+            + "  - \"x\"\n"
+            + "  systemMessage: |\n"
+            + "    hello\n"
+            + "    world\n", emit("jenkins", jenkins));
+    }
+
+    @Test
+    public void omitEmptyValues() throws Exception {
+        final Mapping jenkins = new Mapping();
+        jenkins.put("empty", "");
+        jenkins.put("nothing", (CNode) null);
+        final Mapping nested = new Mapping();
+        nested.put("sequence", new Sequence());
+        nested.put("mapping", new Mapping());
+        jenkins.put("nested", nested);
+        final Sequence nodes = new Sequence();
+        nodes.add(new Mapping());
+        nodes.add(new Scalar(""));
+        final Sequence items = new Sequence();
+        items.add(new Scalar("y"));
+        nodes.add(items);
+        jenkins.put("nodes", nodes);
+
+        assertEquals("jenkins:\n"
+            + "  nodes:\n"
+            + "  - - \"y\"\n", emit("jenkins", jenkins, "unclassified", new Mapping()));
+    }
+
+    @Test
+    public void emptyDocument() throws Exception {
+        assertEquals("{\n  }\n", emit("unclassified", new Mapping()));
+    }
+
+    private static String emit(Object... entries) throws Exception {
+        final StringWriter writer = new StringWriter();
+        final ModelEmitter emitter = new ModelEmitter(writer);
+        emitter.start();
+        for (int i = 0; i < entries.length; i += 2) {
+            emitter.entry((String) entries[i], (CNode) entries[i + 1]);
+        }
+        emitter.end();
+        return writer.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.snakeyaml.nodes.MappingNode;
+import io.jenkins.plugins.casc.snakeyaml.nodes.Node;
+import io.jenkins.plugins.casc.snakeyaml.nodes.NodeTuple;
+import io.jenkins.plugins.casc.snakeyaml.nodes.ScalarNode;
+import io.jenkins.plugins.casc.snakeyaml.nodes.SequenceNode;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertThrows;
+
+public class YamlUtilsTest {
+
+    @Test
+    public void parallelMergeKeepsSourcesOrder() throws Exception {
+        assertThat(labels(YamlUtils.merge(fragments(), 1)), contains(expectedLabels()));
+        assertThat(labels(YamlUtils.merge(fragments(), 4)), contains(expectedLabels()));
+    }
+
+    @Test
+    public void parallelMergeReportsConflictingSource() {
+        final List<YamlSource> sources = fragments();
+        sources.add(source("jenkins:\n  labels: conflict\n"));
+        final ConfiguratorException e = assertThrows(ConfiguratorException.class, () -> YamlUtils.merge(sources, 4));
+        assertThat(e.getMessage(), containsString("Found incompatible configuration elements " + sources.get(sources.size() - 1)));
+    }
+
+    @Test
+    public void mergeNestedMappings() throws Exception {
+        final List<YamlSource> sources = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sources.add(source("unclassified:\n  setting" + (i % 5) + ":\n    value" + i + ": " + i + "\n"));
+        }
+        final MappingNode unclassified = (MappingNode) ((MappingNode) YamlUtils.merge(sources, 1)).getValue().get(0).getValueNode();
+        assertThat(keys(unclassified), contains("setting0", "setting1", "setting2", "setting3", "setting4"));
+        assertThat(keys((MappingNode) unclassified.getValue().get(1).getValueNode()), contains("value1", "value6", "value11", "value16"));
+    }
+
+    private static List<String> keys(MappingNode mapping) {
+        return mapping.getValue().stream()
+                .map(t -> ((ScalarNode) t.getKeyNode()).getValue())
+                .collect(Collectors.toList());
+    }
+
+    private static List<YamlSource> fragments() {
+        final List<YamlSource> sources = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sources.add(source("jenkins:\n  labels:\n    - label" + i + "\n"));
+        }
+        return sources;
+    }
+
+    private static String[] expectedLabels() {
+        final String[] labels = new String[20];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = "label" + i;
+        }
+        return labels;
+    }
+
+    private static YamlSource source(String yaml) {
+        return YamlSource.of(new ByteArrayInputStream(yaml.getBytes(UTF_8)));
+    }
+
+    private static List<String> labels(Node root) {
+        final NodeTuple jenkins = ((MappingNode) root).getValue().get(0);
+        final NodeTuple labels = ((MappingNode) jenkins.getValueNode()).getValue().get(0);
+        return ((SequenceNode) labels.getValueNode()).getValue().stream()
+                .map(n -> ((ScalarNode) n).getValue())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,134 @@
+package io.jenkins.plugins.casc;
+
+import hudson.slaves.DumbSlave;
+import hudson.slaves.JNLPLauncher;
+import io.jenkins.plugins.casc.misc.jmh.CascJmhBenchmarkState;
+import io.jenkins.plugins.casc.util.ExtraFieldUtils;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.export.Exported;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading and writing attributes of a large list of agents, using {@link Attribute} default accessors
+ * versus looking up the accessor method by reflection for every single access.
+ */
+@JmhBenchmark
+public class AttributeAccessorsBenchmark {
+
+    private static final int AGENTS = 500;
+
+    public static class MyState extends CascJmhBenchmarkState {
+
+        final List<DumbSlave> agents = new ArrayList<>();
+
+        final List<Attribute<DumbSlave, ?>> attributes = new ArrayList<>();
+
+        Attribute<DumbSlave, String> description;
+
+        @Override
+        public void setup() throws Exception {
+            super.setup();
+            for (int i = 0; i < AGENTS; i++) {
+                agents.add(new DumbSlave("agent-" + i, "/home/jenkins/agent-" + i, new JNLPLauncher(true)));
+            }
+
+            final Configurator<DumbSlave> configurator = ConfiguratorRegistry.get().lookupOrFail(DumbSlave.class);
+            for (Attribute<DumbSlave, ?> attribute : configurator.describe()) {
+                try {
+                    attribute.getValue(agents.get(0));
+                    attributes.add(attribute);
+                } catch (Exception e) {
+                    // not readable using default getter, ignore
+                }
+            }
+            description = new Attribute<>("nodeDescription", String.class);
+        }
+
+        @Nonnull
+        @Override
+        protected String getResourcePath() {
+            return "benchmarks.yml";
+        }
+
+        @Nonnull
+        @Override
+        protected Class<?> getEnclosingClass() {
+            return AttributeAccessorsBenchmark.class;
+        }
+    }
+
+    @Benchmark
+    public void getValues(MyState state, Blackhole blackhole) throws Exception {
+        for (DumbSlave agent : state.agents) {
+            for (Attribute<DumbSlave, ?> attribute : state.attributes) {
+                blackhole.consume(attribute.getValue(agent));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getValuesByReflection(MyState state, Blackhole blackhole) throws Exception {
+        for (DumbSlave agent : state.agents) {
+            for (Attribute<DumbSlave, ?> attribute : state.attributes) {
+                blackhole.consume(reflectiveGet(agent, attribute.getName()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void setValues(MyState state) throws Exception {
+        for (DumbSlave agent : state.agents) {
+            state.description.setValue(agent, "static agent");
+        }
+    }
+
+    @Benchmark
+    public void setValuesByReflection(MyState state) throws Exception {
+        for (DumbSlave agent : state.agents) {
+            reflectiveSet(agent, "nodeDescription", "static agent");
+        }
+    }
+
+    /**
+     * Getter lookup as performed for each access before accessors got cached.
+     */
+    private static Object reflectiveGet(Object target, String name) throws Exception {
+        final String upname = StringUtils.capitalize(name);
+        final List<String> accessors = Arrays.asList("get" + upname, "is" + upname);
+        for (Method method : target.getClass().getMethods()) {
+            if (method.getParameterCount() != 0) continue;
+            if (accessors.contains(method.getName())) {
+                return method.invoke(target);
+            }
+            final Exported exported = method.getAnnotation(Exported.class);
+            if (exported != null && exported.name().equalsIgnoreCase(name)) {
+                return method.invoke(target);
+            }
+        }
+        final Field field = ExtraFieldUtils.getField(target.getClass(), name, true);
+        return field != null ? field.get(target) : null;
+    }
+
+    /**
+     * Setter lookup as performed for each access before accessors got cached.
+     */
+    private static void reflectiveSet(Object target, String name, Object value) throws Exception {
+        Method writeMethod = null;
+        for (Method method : target.getClass().getMethods()) {
+            if (method.getName().equals("set" + StringUtils.capitalize(name)) && (
+                writeMethod == null
+                    || writeMethod.getParameterTypes()[0].isAssignableFrom(method.getParameterTypes()[0]))) {
+                writeMethod = method;
+            }
+        }
+        writeMethod.invoke(target, value);
+    }
+}
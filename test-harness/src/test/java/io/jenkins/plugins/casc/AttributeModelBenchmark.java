@@ -0,0 +1,62 @@
+package io.jenkins.plugins.casc;
+
+import hudson.slaves.DumbSlave;
+import io.jenkins.plugins.casc.misc.jmh.CascJmhBenchmarkState;
+import io.jenkins.plugins.casc.model.Mapping;
+import javax.annotation.Nonnull;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-instance cost of configuring agents, with the {@link BaseConfigurator#describe()} introspection
+ * being cached per target class or computed again for every instance.
+ */
+@JmhBenchmark
+public class AttributeModelBenchmark {
+
+    private static final int AGENTS = 100;
+
+    public static class MyState extends CascJmhBenchmarkState {
+        @Nonnull
+        @Override
+        protected String getResourcePath() {
+            return "benchmarks.yml";
+        }
+
+        @Nonnull
+        @Override
+        protected Class<?> getEnclosingClass() {
+            return AttributeModelBenchmark.class;
+        }
+    }
+
+    @Benchmark
+    public void configureAgents(MyState state, Blackhole blackhole) throws Exception {
+        final ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        final Configurator<DumbSlave> configurator = context.lookupOrFail(DumbSlave.class);
+        for (int i = 0; i < AGENTS; i++) {
+            blackhole.consume(configurator.configure(agent(i), context));
+        }
+    }
+
+    @Benchmark
+    public void configureAgentsWithoutCache(MyState state, Blackhole blackhole) throws Exception {
+        final ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        final Configurator<DumbSlave> configurator = context.lookupOrFail(DumbSlave.class);
+        for (int i = 0; i < AGENTS; i++) {
+            // only drop cached introspection, other caches would blur the comparison
+            AttributeModel.invalidate();
+            blackhole.consume(configurator.configure(agent(i), context));
+        }
+    }
+
+    private static Mapping agent(int i) {
+        final Mapping mapping = new Mapping();
+        mapping.put("name", "agent-" + i);
+        mapping.put("remoteFS", "/home/jenkins/agent-" + i);
+        mapping.put("labelString", "linux docker");
+        mapping.put("numExecutors", 2);
+        return mapping;
+    }
+}
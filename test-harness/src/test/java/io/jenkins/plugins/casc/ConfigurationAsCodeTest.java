@@ -5,20 +5,29 @@ import com.gargoylesoftware.htmlunit.WebResponse;
 import com.gargoylesoftware.htmlunit.html.HtmlForm;
 import com.gargoylesoftware.htmlunit.html.HtmlInput;
 import com.gargoylesoftware.htmlunit.html.HtmlPage;
+import com.gargoylesoftware.htmlunit.util.NameValuePair;
 import hudson.Functions;
 import hudson.util.FormValidation;
 import io.jenkins.plugins.casc.misc.ConfiguredWithCode;
 import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
 import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Source;
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
@@ -32,12 +41,15 @@ import static io.jenkins.plugins.casc.misc.Util.getJenkinsRoot;
 import static io.jenkins.plugins.casc.misc.Util.toYamlString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 public class ConfigurationAsCodeTest {
@@ -165,6 +177,38 @@ public class ConfigurationAsCodeTest {
         assertEquals(casc.doCheckNewSource("  " + configUri + "  ").kind, FormValidation.Kind.OK);
     }
 
+    @Test
+    public void checkWith_should_report_issues_by_source() throws Exception {
+        assertIssuesBySource();
+    }
+
+    @Test
+    public void checkWith_concurrently_should_report_issues_by_source() throws Exception {
+        final int parallelism = ConfigurationAsCode.CHECK_PARALLELISM;
+        ConfigurationAsCode.CHECK_PARALLELISM = 4;
+        try {
+            assertIssuesBySource();
+        } finally {
+            ConfigurationAsCode.CHECK_PARALLELISM = parallelism;
+        }
+    }
+
+    private static void assertIssuesBySource() throws Exception {
+        final String yaml = "configuration-as-code:\n"
+            + "  unknown: warn\n"
+            + "unclassified:\n"
+            + "  location:\n"
+            + "    unknownLocationAttribute: foo\n"
+            + "jenkins:\n"
+            + "  unknownJenkinsAttribute: bar\n";
+        final Map<Source, String> issues = ConfigurationAsCode.get()
+            .checkWith(YamlSource.of(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8))));
+
+        final List<Integer> lines = issues.keySet().stream().map(s -> s.line).collect(Collectors.toList());
+        assertThat(lines, hasSize(2));
+        assertThat(lines, contains(5, 7));
+    }
+
     @Test
     public void doReplace_should_trim_input() throws Exception {
         HtmlPage page = j.createWebClient().goTo("configuration-as-code");
@@ -257,6 +301,83 @@ public class ConfigurationAsCodeTest {
         assertThat(exported, is(expected));
     }
 
+    @Test
+    @ConfiguredWithCode("multi-line1.yml")
+    public void export_concurrently_in_same_order() throws Exception {
+        final int parallelism = ConfigurationAsCode.EXPORT_PARALLELISM;
+        final StringWriter serial = new StringWriter();
+        final StringWriter concurrent = new StringWriter();
+        try {
+            ConfigurationAsCode.EXPORT_PARALLELISM = 1;
+            ConfigurationAsCode.get().export(serial);
+            ConfigurationAsCode.EXPORT_PARALLELISM = 4;
+            ConfigurationAsCode.get().export(concurrent);
+        } finally {
+            ConfigurationAsCode.EXPORT_PARALLELISM = parallelism;
+        }
+        assertEquals(serial.toString(), concurrent.toString());
+    }
+
+    @Test
+    @ConfiguredWithCode("multi-line1.yml")
+    public void export_selected_paths() throws Exception {
+        final StringWriter writer = new StringWriter();
+        ConfigurationAsCode.get().export(writer, Arrays.asList("unclassified.location", "jenkins.systemMessage"));
+        final String exported = writer.toString();
+        assertThat(exported, containsString("jenkins:\n"
+            + "  systemMessage: |\n"
+            + "    Welcome to our build server.\n"));
+        assertThat(exported, containsString("unclassified:\n  location:\n"));
+        assertThat(exported, not(containsString("numExecutors")));
+        assertThat(exported, not(containsString("tool:")));
+    }
+
+    @Test
+    public void export_selected_attribute_like_full_export() throws Exception {
+        final StringWriter partial = new StringWriter();
+        ConfigurationAsCode.get().export(partial, Collections.singletonList("jenkins.numExecutors"));
+        final String[] lines = partial.toString().split("\n");
+        assertThat(lines[lines.length - 1], containsString("numExecutors:"));
+
+        // root element attributes have no reference instance, so default values are exported either way
+        final StringWriter full = new StringWriter();
+        ConfigurationAsCode.get().export(full);
+        assertThat(full.toString(), containsString(lines[lines.length - 1] + "\n"));
+    }
+
+    @Test
+    public void export_unknown_root_element() {
+        assertThrows(ConfiguratorException.class,
+            () -> ConfigurationAsCode.get().export(new StringWriter(), Collections.singletonList("unknown.attribute")));
+    }
+
+    @Test
+    @ConfiguredWithCode("multi-line1.yml")
+    public void export_paths_ignore_case() throws Exception {
+        final StringWriter writer = new StringWriter();
+        ConfigurationAsCode.get().export(writer, Collections.singletonList("Jenkins.SYSTEMMESSAGE"));
+        assertThat(writer.toString(), containsString("jenkins:\n"
+            + "  systemMessage: |\n"
+            + "    Welcome to our build server.\n"));
+    }
+
+    @Test
+    public void export_unknown_attribute() {
+        assertThrows(ConfiguratorException.class,
+            () -> ConfigurationAsCode.get().export(new StringWriter(), Arrays.asList("jenkins", "jenkins.unknown")));
+        assertThrows(ConfiguratorException.class,
+            () -> ConfigurationAsCode.get().export(new StringWriter(), Collections.singletonList("unclassified.unknown")));
+    }
+
+    @Test
+    public void doExport_unknown_path_is_bad_request() throws Exception {
+        WebClient client = j.createWebClient();
+        WebRequest request = new WebRequest(client.createCrumbedUrl("configuration-as-code/export"), POST);
+        request.setRequestParameters(Collections.singletonList(new NameValuePair("path", "jenkins.unknown")));
+        WebResponse response = client.loadWebResponse(request);
+        assertThat(response.getStatusCode(), is(400));
+    }
+
     @Test
     public void testHtmlDocStringRetrieval() throws Exception {
         String expectedDocString = "<div>\n"
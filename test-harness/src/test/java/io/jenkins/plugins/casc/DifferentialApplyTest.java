@@ -0,0 +1,146 @@
+package io.jenkins.plugins.casc;
+
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.model.Mapping;
+import jenkins.model.GlobalConfiguration;
+import jenkins.model.Jenkins;
+import org.jenkinsci.Symbol;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.For;
+import org.jvnet.hudson.test.TestExtension;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@For(DifferentialApply.class)
+public class DifferentialApplyTest {
+
+    @Rule
+    public JenkinsConfiguredWithCodeRule j = new JenkinsConfiguredWithCodeRule();
+
+    @After
+    public void reset() {
+        DifferentialApply.ENABLED = false;
+    }
+
+    @Test
+    public void skipUnchangedRootElements() {
+        final DifferentialApply differential = new DifferentialApply();
+        differential.applied(differential.digests(config("hello", "secret")));
+
+        final Mapping unchanged = config("hello", "secret");
+        differential.skipUnchanged(unchanged, differential.digests(unchanged));
+        assertTrue(unchanged.isEmpty());
+
+        final Mapping variable = config("hello", "${SECRET}");
+        differential.skipUnchanged(variable, differential.digests(variable));
+        // root element relying on a variable is always applied
+        assertThat(variable.keySet(), containsInAnyOrder("unclassified"));
+    }
+
+    @Test
+    public void applyRootElementsFollowingChangedOne() {
+        final DifferentialApply differential = new DifferentialApply();
+        differential.applied(differential.digests(config("hello", "secret")));
+
+        // unclassified is applied after jenkins, and may rely on its state
+        final Mapping changed = config("hello world", "secret");
+        differential.skipUnchanged(changed, differential.digests(changed));
+        assertThat(changed.keySet(), containsInAnyOrder("jenkins", "unclassified"));
+    }
+
+    @Test
+    public void applyAllAfterExtensionsChange() {
+        final DifferentialApply differential = new DifferentialApply();
+        differential.applied(differential.digests(config("hello", "secret")));
+        ExtensionsChangeListener.invalidate();
+
+        final Mapping unchanged = config("hello", "secret");
+        differential.skipUnchanged(unchanged, differential.digests(unchanged));
+        assertThat(unchanged.keySet(), containsInAnyOrder("jenkins", "unclassified"));
+    }
+
+    @Test
+    public void dependentRootElementSeesChangedOneApplied() throws Exception {
+        DifferentialApply.ENABLED = true;
+        configure("first");
+        assertEquals("first", DependentApply.get().getComponent().systemMessage);
+
+        // only jenkins configuration changed, unclassified relies on it
+        configure("second");
+        assertEquals("second", j.jenkins.getSystemMessage());
+        final Dependent component = DependentApply.get().getComponent();
+        assertEquals("second", component.systemMessage);
+
+        configure("second");
+        assertSame(component, DependentApply.get().getComponent());
+    }
+
+    private void configure(String name) throws ConfiguratorException {
+        ConfigurationAsCode.get().configure(getClass().getResource("DifferentialApply-" + name + ".yml").toString());
+    }
+
+    private static Mapping config(String systemMessage, String name) {
+        final Mapping jenkins = new Mapping();
+        jenkins.put("systemMessage", systemMessage);
+        final Mapping component = new Mapping();
+        component.put("name", name);
+        final Mapping dependent = new Mapping();
+        dependent.put("component", component);
+        final Mapping unclassified = new Mapping();
+        unclassified.put("dependentApply", dependent);
+
+        final Mapping root = new Mapping();
+        root.put("jenkins", jenkins);
+        root.put("unclassified", unclassified);
+        return root;
+    }
+
+    @TestExtension
+    @Symbol("dependentApply")
+    public static class DependentApply extends GlobalConfiguration {
+
+        private Dependent component;
+
+        static DependentApply get() {
+            return GlobalConfiguration.all().get(DependentApply.class);
+        }
+
+        public Dependent getComponent() {
+            return component;
+        }
+
+        @DataBoundSetter
+        public void setComponent(Dependent component) {
+            this.component = component;
+        }
+    }
+
+    public static class Dependent {
+
+        private final String name;
+
+        /**
+         * State configured by the {@code jenkins} root element, which is applied before {@code unclassified}.
+         */
+        final String systemMessage;
+
+        @DataBoundConstructor
+        public Dependent(String name) {
+            this.name = name;
+            this.systemMessage = Jenkins.get().getSystemMessage();
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
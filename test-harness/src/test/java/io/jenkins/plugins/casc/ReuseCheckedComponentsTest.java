@@ -0,0 +1,87 @@
+package io.jenkins.plugins.casc;
+
+import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import jenkins.model.GlobalConfiguration;
+import jenkins.model.Jenkins;
+import org.jenkinsci.Symbol;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.TestExtension;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReuseCheckedComponentsTest {
+
+    @Rule
+    public JenkinsConfiguredWithCodeRule j = new JenkinsConfiguredWithCodeRule();
+
+    @After
+    public void reset() {
+        ConfigurationAsCode.REUSE_CHECKED_COMPONENTS = false;
+    }
+
+    @Test
+    public void laterRootElementSeesEarlierOneApplied() throws Exception {
+        j.jenkins.setSystemMessage("before");
+        configure();
+        assertEquals("applied", j.jenkins.getSystemMessage());
+        assertEquals("applied", DependentGlobal.get().getComponent().systemMessage);
+    }
+
+    @Test
+    public void reusedComponentsAreBuiltBeforeEarlierRootElementsAreApplied() throws Exception {
+        ConfigurationAsCode.REUSE_CHECKED_COMPONENTS = true;
+        j.jenkins.setSystemMessage("before");
+        configure();
+        assertEquals("applied", j.jenkins.getSystemMessage());
+        // this is why reusing components has to be enabled explicitly
+        assertEquals("before", DependentGlobal.get().getComponent().systemMessage);
+    }
+
+    private void configure() throws ConfiguratorException {
+        ConfigurationAsCode.get().configure(getClass().getResource("ReuseCheckedComponents.yml").toString());
+    }
+
+    @TestExtension
+    @Symbol("dependentGlobal")
+    public static class DependentGlobal extends GlobalConfiguration {
+
+        private Dependent component;
+
+        static DependentGlobal get() {
+            return GlobalConfiguration.all().get(DependentGlobal.class);
+        }
+
+        public Dependent getComponent() {
+            return component;
+        }
+
+        @DataBoundSetter
+        public void setComponent(Dependent component) {
+            this.component = component;
+        }
+    }
+
+    public static class Dependent {
+
+        private final String name;
+
+        /**
+         * State configured by the {@code jenkins} root element, which is applied before {@code unclassified}.
+         */
+        final String systemMessage;
+
+        @DataBoundConstructor
+        public Dependent(String name) {
+            this.name = name;
+            this.systemMessage = Jenkins.get().getSystemMessage();
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.jenkins.plugins.casc;
+
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import io.jenkins.plugins.casc.yaml.YamlUtils;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures loading a configuration split into many fragments, all of them contributing to the same root elements, as
+ * {@link io.jenkins.plugins.casc.ConfigurationAsCode} does: each fragment is built into the model, then merged. Sources
+ * are streams, so they're parsed on every invocation rather than reused from the model cache.
+ */
+@JmhBenchmark
+public class YamlMergeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class MyState {
+
+        @Param({"10", "100", "1000"})
+        int fragments;
+
+        List<byte[]> documents;
+
+        @Setup
+        public void setup() {
+            documents = new ArrayList<>(fragments);
+            for (int i = 0; i < fragments; i++) {
+                documents.add(fragment(i).getBytes(UTF_8));
+            }
+        }
+
+        /**
+         * Sources can only be read once, so they are created again for every invocation.
+         */
+        List<YamlSource> sources() {
+            final List<YamlSource> sources = new ArrayList<>(documents.size());
+            for (byte[] document : documents) {
+                sources.add(YamlSource.of(new ByteArrayInputStream(document)));
+            }
+            return sources;
+        }
+    }
+
+    @Benchmark
+    public void loadFrom(MyState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(YamlUtils.loadFrom(state.sources()));
+    }
+
+    private static String fragment(int i) {
+        return "jenkins:\n"
+            + "  nodes:\n"
+            + "    - permanent:\n"
+            + "        name: \"agent-" + i + "\"\n"
+            + "        remoteFS: \"/home/jenkins/agent-" + i + "\"\n"
+            + "unclassified:\n"
+            + "  setting" + i + ":\n"
+            + "    enabled: true\n"
+            + "    value: \"" + i + "\"\n"
+            + "credentials:\n"
+            + "  system:\n"
+            + "    domainCredentials:\n"
+            + "      - credentials:\n"
+            + "          - usernamePassword:\n"
+            + "              id: \"credential-" + i + "\"\n"
+            + "              username: \"user" + i + "\"\n"
+            + "              password: \"secret\"\n";
+    }
+}
@@ -3,6 +3,7 @@ package io.jenkins.plugins.casc.core;
 import hudson.Extension;
 import hudson.model.Descriptor;
 import hudson.model.Node;
+import hudson.model.Slave;
 import hudson.model.TaskListener;
 import hudson.slaves.AbstractCloudComputer;
 import hudson.slaves.AbstractCloudSlave;
@@ -25,6 +26,9 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 
 public class JenkinsConfiguratorCloudSupportTest {
@@ -83,6 +87,22 @@ public class JenkinsConfiguratorCloudSupportTest {
         assertNotNull("Slave cloud", j.jenkins.getNode("testCloud"));
     }
 
+    @Test
+    @ConfiguredWithCode("JenkinsConfiguratorCloudSupportTest.yml")
+    public void should_only_update_changed_nodes_after_reload() throws Exception {
+        final Node agent1 = j.jenkins.getNode("agent1");
+        final Node agent2 = j.jenkins.getNode("agent2");
+        j.jenkins.addNode(new StaticPretendSlave());
+
+        ConfigurationAsCode.get().configure(this.getClass().getResource("JenkinsConfiguratorCloudSupportTestUpdated.yml").toString());
+        assertEquals(3, j.jenkins.getNodes().size());
+        assertSame("Unchanged node replaced", agent1, j.jenkins.getNode("agent1"));
+        assertNotSame("Changed node not replaced", agent2, j.jenkins.getNode("agent2"));
+        assertEquals("/home/user2", ((Slave) j.jenkins.getNode("agent2")).getRemoteFS());
+        assertNotNull("Added node not found", j.jenkins.getNode("agent3"));
+        assertNull("Removed node found", j.jenkins.getNode("testCloud"));
+    }
+
     @Test
     @ConfiguredWithCode("JenkinsConfiguratorCloudSupportTest.yml")
     public void should_export_only_static_nodes() throws Exception {
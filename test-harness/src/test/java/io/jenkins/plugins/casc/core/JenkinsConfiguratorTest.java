@@ -7,8 +7,12 @@ import hudson.security.HudsonPrivateSecurityRealm;
 import hudson.slaves.NodeProperty;
 import hudson.slaves.NodePropertyDescriptor;
 import hudson.util.DescribableList;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
 import io.jenkins.plugins.casc.misc.ConfiguredWithCode;
 import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
+import io.jenkins.plugins.casc.model.Mapping;
 import jenkins.model.Jenkins;
 import org.junit.Rule;
 import org.junit.Test;
@@ -54,4 +58,23 @@ public class JenkinsConfiguratorTest {
         assertEquals("BAR", env.get("FOO"));
     }
 
+    @Test
+    public void skipUnchangedAttributes() throws Exception {
+        final ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        final Configurator<Jenkins> configurator = registry.lookupOrFail(Jenkins.class);
+        final Mapping config = new Mapping();
+        config.put("systemMessage", "hello");
+        config.put("numExecutors", 3);
+        configurator.configure(config.clone(), new ConfigurationContext(registry));
+
+        config.put("quietPeriod", 7);
+        final ConfigurationContext context = new ConfigurationContext(registry);
+        context.writeOnlyOnChange(true);
+        configurator.configure(config, context);
+
+        assertEquals(2, context.getSkippedWrites());
+        assertEquals("hello", Jenkins.get().getSystemMessage());
+        assertEquals(7, Jenkins.get().getQuietPeriod());
+    }
+
 }
@@ -0,0 +1,54 @@
+package io.jenkins.plugins.casc.impl;
+
+import com.gargoylesoftware.htmlunit.HttpMethod;
+import com.gargoylesoftware.htmlunit.WebRequest;
+import com.gargoylesoftware.htmlunit.WebResponse;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import org.json.JSONObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CachedSchemaTest {
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void schemaIsGeneratedOncePerExtensions() {
+        final CachedSchema schema = CachedSchema.get();
+        assertSame(schema, CachedSchema.get());
+
+        ExtensionsChangeListener.invalidate();
+        final CachedSchema regenerated = CachedSchema.get();
+        assertNotSame(schema, regenerated);
+        // same plugins, so clients can keep their copy
+        assertEquals(schema.getETag(), regenerated.getETag());
+    }
+
+    @Test
+    public void revalidateWithETag() throws Exception {
+        final JenkinsRule.WebClient wc = j.createWebClient();
+        final URL url = new URL(j.getURL(), "configuration-as-code/schema");
+
+        final WebResponse response = wc.loadWebResponse(new WebRequest(url, HttpMethod.GET));
+        assertEquals(HttpURLConnection.HTTP_OK, response.getStatusCode());
+        final String etag = response.getResponseHeaderValue("ETag");
+        assertEquals(CachedSchema.get().getETag(), etag);
+        assertTrue(new JSONObject(response.getContentAsString()).has("properties"));
+
+        final WebRequest revalidate = new WebRequest(url, HttpMethod.GET);
+        revalidate.setAdditionalHeader("If-None-Match", etag);
+        assertEquals(HttpURLConnection.HTTP_NOT_MODIFIED, wc.loadWebResponse(revalidate).getStatusCode());
+
+        final WebRequest stale = new WebRequest(url, HttpMethod.GET);
+        stale.setAdditionalHeader("If-None-Match", "\"stale\"");
+        assertEquals(HttpURLConnection.HTTP_OK, wc.loadWebResponse(stale).getStatusCode());
+    }
+}
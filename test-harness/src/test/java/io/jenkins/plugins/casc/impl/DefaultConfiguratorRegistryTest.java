@@ -0,0 +1,61 @@
+package io.jenkins.plugins.casc.impl;
+
+import hudson.security.HudsonPrivateSecurityRealm;
+import hudson.security.SecurityRealm;
+import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.core.HudsonPrivateSecurityRealmConfigurator;
+import io.jenkins.plugins.casc.core.NoneSecurityRealmConfigurator;
+import io.jenkins.plugins.casc.impl.configurators.HeteroDescribableConfigurator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+public class DefaultConfiguratorRegistryTest {
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void dedicatedConfigurators() {
+        final DefaultConfiguratorRegistry registry = new DefaultConfiguratorRegistry();
+        assertThat(registry.lookup(HudsonPrivateSecurityRealm.class), instanceOf(HudsonPrivateSecurityRealmConfigurator.class));
+        assertThat(registry.lookup(SecurityRealm.NO_AUTHENTICATION.getClass()), instanceOf(NoneSecurityRealmConfigurator.class));
+        assertThat(registry.lookup(SecurityRealm.class), instanceOf(HeteroDescribableConfigurator.class));
+    }
+
+    @Test
+    public void configuratorsAreKeptUntilExtensionsChange() {
+        final DefaultConfiguratorRegistry registry = new DefaultConfiguratorRegistry();
+        final Configurator configurator = registry.lookup(SecurityRealm.class);
+        assertSame(configurator, registry.lookup(SecurityRealm.class));
+        assertEquals(1, registry.getHits());
+        assertEquals(1, registry.getMisses());
+        assertEquals(1, registry.getRebuilds());
+
+        ExtensionsChangeListener.invalidate();
+        registry.lookup(SecurityRealm.class);
+        assertEquals(2, registry.getMisses());
+        assertEquals(2, registry.getRebuilds());
+    }
+
+    @Test
+    public void unknownTypesAreCached() {
+        final DefaultConfiguratorRegistry registry = new DefaultConfiguratorRegistry();
+        assertNull(registry.lookup(Unknown.class));
+        assertNull(registry.lookup(Unknown.class));
+        assertEquals(1, registry.getMisses());
+        assertEquals(1, registry.getHits());
+        assertThrows(ConfiguratorException.class, () -> registry.lookupOrFail(Unknown.class));
+    }
+
+    private static class Unknown {
+    }
+}
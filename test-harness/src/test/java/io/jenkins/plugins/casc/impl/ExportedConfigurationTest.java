@@ -0,0 +1,60 @@
+package io.jenkins.plugins.casc.impl;
+
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ExportedConfigurationTest {
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void sameConfigurationHasSameKey() {
+        final ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        final String key = ExportedConfiguration.key(new Component("a"), context);
+        assertNotNull(key);
+        assertEquals(key, ExportedConfiguration.key(new Component("a"), context));
+        assertNotEquals(key, ExportedConfiguration.key(new Component("b"), context));
+    }
+
+    @Test
+    public void partialExportHasNoKey() {
+        final ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        // both would be exported with the same failure, which doesn't mean they're configured the same way
+        assertNull(ExportedConfiguration.key(new Broken("a"), context));
+    }
+
+    public static class Component {
+
+        private final String name;
+
+        @DataBoundConstructor
+        public Component(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Broken {
+
+        @DataBoundConstructor
+        public Broken(String name) {
+        }
+
+        public String getName() {
+            throw new IllegalStateException("name can't be read");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.jenkins.plugins.casc.impl;
+
+import io.jenkins.plugins.casc.RootElementConfigurator;
+import io.jenkins.plugins.casc.core.JenkinsConfigurator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RootElementIndexTest {
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void lookupIsCaseInsensitive() {
+        final RootElementIndex index = RootElementIndex.get();
+        assertThat(index.lookup("jenkins"), instanceOf(JenkinsConfigurator.class));
+        assertSame(index.lookup("jenkins"), index.lookup("JENKINS"));
+        assertNull(index.lookup("unknown"));
+        assertEquals(-1, index.indexOf("unknown"));
+    }
+
+    @Test
+    public void allNamesAreIndexed() {
+        final RootElementIndex index = RootElementIndex.get();
+        for (RootElementConfigurator<?> c : index.all()) {
+            for (String name : c.getNames()) {
+                assertThat(name, index.lookup(name), instanceOf(RootElementConfigurator.class));
+            }
+        }
+    }
+
+    @Test
+    public void indexIsKeptUntilExtensionsChange() {
+        final RootElementIndex index = RootElementIndex.get();
+        assertSame(index, RootElementIndex.get());
+        ExtensionsChangeListener.invalidate();
+        assertNotSame(index, RootElementIndex.get());
+    }
+}
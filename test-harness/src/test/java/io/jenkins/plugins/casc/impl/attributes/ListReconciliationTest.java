@@ -0,0 +1,143 @@
+package io.jenkins.plugins.casc.impl.attributes;
+
+import hudson.XmlFile;
+import hudson.model.Node;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+import hudson.slaves.EnvironmentVariablesNodeProperty;
+import hudson.slaves.NodeProperty;
+import hudson.slaves.NodePropertyDescriptor;
+import hudson.util.DescribableList;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import jenkins.model.Jenkins;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ListReconciliationTest {
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void keepLiveElementsMatchingConfiguration() throws Exception {
+        final DescribableList<NodeProperty<?>, NodePropertyDescriptor> properties = j.jenkins.getGlobalNodeProperties();
+        properties.replaceBy(Arrays.asList(env("A", "1"), env("B", "2")));
+        final List<NodeProperty<?>> live = properties.toList();
+
+        // unchanged
+        ListReconciliation.reconcile(properties, Arrays.asList(env("A", "1"), env("B", "2")), context());
+        assertSame(live.get(0), properties.toList().get(0));
+        assertSame(live.get(1), properties.toList().get(1));
+
+        // appended
+        ListReconciliation.reconcile(properties, Arrays.asList(env("A", "1"), env("B", "2"), env("C", "3")), context());
+        assertEquals(3, properties.size());
+        assertSame(live.get(0), properties.toList().get(0));
+        assertSame(live.get(1), properties.toList().get(1));
+
+        // reordered, modified and removed
+        ListReconciliation.reconcile(properties, Arrays.asList(env("B", "2"), env("A", "changed")), context());
+        assertEquals(2, properties.size());
+        assertSame(live.get(1), properties.toList().get(0));
+        assertNotSame(live.get(0), properties.toList().get(1));
+        assertEquals("changed", ((EnvironmentVariablesNodeProperty) properties.toList().get(1)).getEnvVars().get("A"));
+    }
+
+    @Test
+    public void unchangedListIsNotSaved() throws Exception {
+        final DescribableList<NodeProperty<?>, NodePropertyDescriptor> properties = j.jenkins.getGlobalNodeProperties();
+        properties.replaceBy(Arrays.asList(env("A", "1"), env("B", "2")));
+        final SaveCounter saves = j.jenkins.getExtensionList(SaveableListener.class).get(SaveCounter.class);
+        saves.count = 0;
+
+        ListReconciliation.reconcile(properties, Arrays.asList(env("A", "1"), env("B", "2")), context());
+        assertEquals(0, saves.count);
+
+        // single removal
+        final List<NodeProperty<?>> live = properties.toList();
+        ListReconciliation.reconcile(properties, Collections.singletonList(env("B", "2")), context());
+        assertEquals(1, saves.count);
+        assertSame(live.get(1), properties.toList().get(0));
+
+        // insertion, at once
+        ListReconciliation.reconcile(properties, Arrays.asList(env("A", "1"), env("B", "2")), context());
+        assertEquals(2, saves.count);
+        assertEquals(2, properties.size());
+        assertSame(live.get(1), properties.toList().get(1));
+    }
+
+    @Test
+    public void removeElementEqualToAPrecedingOne() throws Exception {
+        final DescribableList<NodeProperty<?>, NodePropertyDescriptor> properties = j.jenkins.getGlobalNodeProperties();
+        properties.replaceBy(Arrays.asList(new AlwaysEqual("a"), new AlwaysEqual("b")));
+        final List<NodeProperty<?>> live = properties.toList();
+
+        // removing "b" by equals() would remove "a"
+        ListReconciliation.reconcile(properties, Collections.singletonList(new AlwaysEqual("a")), context());
+        assertEquals(1, properties.size());
+        assertSame(live.get(0), properties.toList().get(0));
+    }
+
+    private static ConfigurationContext context() {
+        return new ConfigurationContext(ConfiguratorRegistry.get());
+    }
+
+    private static NodeProperty<?> env(String key, String value) {
+        return new EnvironmentVariablesNodeProperty(new EnvironmentVariablesNodeProperty.Entry(key, value));
+    }
+
+    /**
+     * Equal to any other instance, whatever its configuration.
+     */
+    public static class AlwaysEqual extends NodeProperty<Node> {
+
+        private final String name;
+
+        @DataBoundConstructor
+        public AlwaysEqual(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof AlwaysEqual;
+        }
+
+        @Override
+        public int hashCode() {
+            return AlwaysEqual.class.hashCode();
+        }
+
+        @TestExtension("removeElementEqualToAPrecedingOne")
+        public static class DescriptorImpl extends NodePropertyDescriptor {
+        }
+    }
+
+    @TestExtension("unchangedListIsNotSaved")
+    public static class SaveCounter extends SaveableListener {
+
+        int count;
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof Jenkins) {
+                count++;
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.jenkins.plugins.casc.impl.configurators;
 import hudson.util.Secret;
 import io.jenkins.plugins.casc.ConfigurationAsCode;
 import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfigurationPlan;
 import io.jenkins.plugins.casc.Configurator;
 import io.jenkins.plugins.casc.ConfiguratorException;
 import io.jenkins.plugins.casc.ConfiguratorRegistry;
@@ -12,6 +13,7 @@ import io.jenkins.plugins.casc.impl.configurators.nonnull.nonnullparampackage.Pa
 import io.jenkins.plugins.casc.impl.configurators.nonnull.nonnullparampackage.PackageParametersNonNullCheckForNull;
 import io.jenkins.plugins.casc.misc.Util;
 import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Checkpoint;
 import io.jenkins.plugins.casc.model.Mapping;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.jenkins.plugins.casc.model.Sequence;
@@ -38,7 +40,9 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -75,6 +79,49 @@ public class DataBoundConfiguratorTest {
         assertThat(configured.initialized, is(true));
     }
 
+    @Test
+    public void configureManyInstancesWithSameBinding() throws Exception {
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        final Configurator<Foo> configurator = registry.lookupOrFail(Foo.class);
+        for (int i = 0; i < 10; i++) {
+            Mapping config = new Mapping();
+            config.put("foo", "foo" + i);
+            config.put("qix", String.valueOf(i));
+            final Foo configured = configurator.configure(config, new ConfigurationContext(registry));
+            assertEquals("foo" + i, configured.foo);
+            assertFalse(configured.bar);
+            assertEquals(i, configured.qix);
+            assertThat(configured.initialized, is(true));
+        }
+    }
+
+    @Test
+    public void applyReusesInstanceBuiltByCheck() throws Exception {
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        final Configurator<Foo> configurator = registry.lookupOrFail(Foo.class);
+        Mapping config = new Mapping();
+        config.put("foo", "foo");
+        config.put("qix", "42");
+
+        final ConfigurationPlan plan = new ConfigurationPlan();
+        final ConfigurationContext checkContext = new ConfigurationContext(registry);
+        checkContext.record(plan);
+        final Foo checked;
+        try (Checkpoint checkpoint = Checkpoint.of(config)) {
+            checked = configurator.check(config, checkContext);
+        }
+        assertThat(checked.initialized, is(false));
+
+        final ConfigurationContext applyContext = new ConfigurationContext(registry);
+        applyContext.replay(plan);
+        final Foo configured = configurator.configure(config, applyContext);
+        assertSame(checked, configured);
+        assertThat(configured.initialized, is(true));
+
+        // only reused once
+        assertNotSame(configured, configurator.configure(config, applyContext));
+    }
+
     @Test
     public void exportYaml() throws Exception {
         Foo foo = new Foo("foo", true, 42);
@@ -4,13 +4,16 @@ import hudson.Extension;
 import hudson.model.Describable;
 import hudson.model.Descriptor;
 import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import io.jenkins.plugins.casc.impl.ExtensionsChangeListener;
 import io.jenkins.plugins.casc.misc.ConfiguredWithCode;
 import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
 import java.util.Objects;
+import java.util.logging.Level;
 import jenkins.model.GlobalConfiguration;
 import org.jenkinsci.Symbol;
 import org.junit.Rule;
 import org.junit.Test;
+import org.jvnet.hudson.test.LoggerRule;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 
@@ -21,6 +24,9 @@ public class DuplicateKeyDescribableConfiguratorTest {
     @Rule
     public JenkinsConfiguredWithCodeRule j = new JenkinsConfiguredWithCodeRule();
 
+    @Rule
+    public LoggerRule logging = new LoggerRule();
+
     @Test
     public void implementors_shouldNotThrowException() {
         ConfiguratorRegistry registry = ConfiguratorRegistry.get();
@@ -29,6 +35,23 @@ public class DuplicateKeyDescribableConfiguratorTest {
         assertThat(configurator.getImplementors().size(), equalTo(1));
     }
 
+    @Test
+    public void implementors_areIndexedAgainAfterExtensionsChange() {
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        HeteroDescribableConfigurator configurator = Objects.requireNonNull((HeteroDescribableConfigurator) registry.lookup(FooBar.class));
+        // duplicate symbol is reported each time descriptors are indexed
+        logging.record(HeteroDescribableConfigurator.class, Level.WARNING).capture(10);
+
+        ExtensionsChangeListener.invalidate();
+        assertThat(configurator.getImplementors().get("fooBarInner"), equalTo(FooBarOne.class));
+        assertThat(configurator.getImplementors().get("fooBarInner"), equalTo(FooBarOne.class));
+        assertThat(logging.getMessages().size(), equalTo(1));
+
+        ExtensionsChangeListener.invalidate();
+        assertThat(configurator.getImplementors().get("fooBarInner"), equalTo(FooBarOne.class));
+        assertThat(logging.getMessages().size(), equalTo(2));
+    }
+
     @Test
     @ConfiguredWithCode("DuplicateKeyDescribableConfigure.yml")
     public void configure_shouldNotThrowException() {
@@ -0,0 +1,143 @@
+package io.jenkins.plugins.casc.impl.configurators;
+
+import hudson.PluginWrapper;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import io.jenkins.plugins.casc.model.Mapping;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import jenkins.model.GlobalConfiguration;
+import jenkins.model.GlobalConfigurationCategory;
+import jenkins.model.JenkinsLocationConfiguration;
+import org.jenkinsci.Symbol;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.kohsuke.stapler.DataBoundSetter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelApplyTest {
+
+    private static final String POOL = "Configuration-as-Code unclassified";
+
+    /**
+     * Descriptors configured, with the thread they were configured on.
+     */
+    private static final List<String> CONFIGURED = Collections.synchronizedList(new ArrayList<>());
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    private int parallelism;
+
+    @Before
+    public void save() {
+        parallelism = GlobalConfigurationCategoryConfigurator.PARALLELISM;
+        CONFIGURED.clear();
+    }
+
+    @After
+    public void reset() {
+        GlobalConfigurationCategoryConfigurator.PARALLELISM = parallelism;
+    }
+
+    @Test
+    public void configureDescriptorsConcurrently() throws Exception {
+        GlobalConfigurationCategoryConfigurator.PARALLELISM = 4;
+        ConfigurationAsCode.get().configure(getClass().getResource("ParallelApply.yml").toString());
+
+        assertEquals("admin@acme.org", JenkinsLocationConfiguration.get().getAdminAddress());
+        assertEquals("hello", GlobalConfiguration.all().get(Concurrent.class).getMessage());
+    }
+
+    @Test
+    public void unrelatedPluginsAreConfiguredOnThePool() throws Exception {
+        final Map<String, List<PluginWrapper.Dependency>> installed = new HashMap<>();
+        installed.put("a", Collections.emptyList());
+        installed.put("b", Collections.emptyList());
+        configure(installed::get);
+
+        assertEquals(2, CONFIGURED.size());
+        for (String configured : CONFIGURED) {
+            assertThat(configured, startsWith(POOL));
+        }
+    }
+
+    @Test
+    public void pluginsLinkedByOptionalDependencyAreConfiguredInOrder() throws Exception {
+        final Map<String, List<PluginWrapper.Dependency>> installed = new HashMap<>();
+        installed.put("a", Collections.singletonList(new PluginWrapper.Dependency("b:1.0;resolution:=optional")));
+        installed.put("b", Collections.emptyList());
+        configure(installed::get);
+
+        // a single group, run by the calling thread, dependency first
+        final String thread = Thread.currentThread().getName();
+        assertThat(CONFIGURED, contains("other on " + thread, "concurrent on " + thread));
+        assertThat(thread, not(startsWith(POOL)));
+    }
+
+    /**
+     * Configure {@link Concurrent} as provided by plugin {@code a}, and {@link Other} by plugin {@code b}.
+     */
+    private static void configure(Function<String, List<PluginWrapper.Dependency>> installed) throws Exception {
+        final Mapping concurrent = new Mapping();
+        concurrent.put("message", "hello");
+        final Mapping other = new Mapping();
+        other.put("message", "world");
+        final Mapping config = new Mapping();
+        config.put("concurrent", concurrent);
+        config.put("other", other);
+
+        final GlobalConfigurationCategoryConfigurator configurator = new GlobalConfigurationCategoryConfigurator(
+            GlobalConfigurationCategory.get(GlobalConfigurationCategory.Unclassified.class));
+        configurator.configure(config, new ConfigurationContext(ConfiguratorRegistry.get()), 4,
+            type -> type == Concurrent.class ? "a" : type == Other.class ? "b" : null, installed);
+    }
+
+    @TestExtension
+    @Symbol("concurrent")
+    public static class Concurrent extends GlobalConfiguration {
+
+        private String message;
+
+        public String getMessage() {
+            return message;
+        }
+
+        @DataBoundSetter
+        public void setMessage(String message) {
+            this.message = message;
+            CONFIGURED.add("concurrent on " + Thread.currentThread().getName());
+        }
+    }
+
+    @TestExtension({"unrelatedPluginsAreConfiguredOnThePool", "pluginsLinkedByOptionalDependencyAreConfiguredInOrder"})
+    @Symbol("other")
+    public static class Other extends GlobalConfiguration {
+
+        private String message;
+
+        public String getMessage() {
+            return message;
+        }
+
+        @DataBoundSetter
+        public void setMessage(String message) {
+            this.message = message;
+            CONFIGURED.add("other on " + Thread.currentThread().getName());
+        }
+    }
+}